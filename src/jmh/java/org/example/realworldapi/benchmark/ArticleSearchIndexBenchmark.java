@@ -0,0 +1,71 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+import org.example.realworldapi.domain.model.article.PageResult;
+import org.example.realworldapi.infrastructure.search.InvertedIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleSearchIndexBenchmark {
+
+  private static final int SEGMENT_SIZE = 10000;
+  private static final int VOCABULARY_SIZE = 20000;
+  private static final int WORDS_PER_ARTICLE = 120;
+
+  @Param({"1000", "10000", "100000"})
+  private int articles;
+
+  private InvertedIndex index;
+
+  @Setup
+  public void setup() {
+    final var random = new Random(42);
+    final var chunks = new ArrayList<List<ArticleSearchDocument>>();
+    var chunk = new ArrayList<ArticleSearchDocument>(SEGMENT_SIZE);
+    for (int article = 0; article < articles; article++) {
+      chunk.add(
+          new ArticleSearchDocument(
+              UUID.randomUUID(),
+              text(random, 8),
+              text(random, 20),
+              text(random, WORDS_PER_ARTICLE)));
+      if (chunk.size() == SEGMENT_SIZE) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(SEGMENT_SIZE);
+      }
+    }
+    chunks.add(chunk);
+    index = InvertedIndex.build(chunks, 16, Runnable::run);
+  }
+
+  @Benchmark
+  public PageResult<UUID> rareTerm() {
+    return index.search("word5000", 0, 20);
+  }
+
+  @Benchmark
+  public PageResult<UUID> commonTerms() {
+    return index.search("word0 word1 word2", 0, 20);
+  }
+
+  // Word ranks follow a Zipf-like distribution, so low numbered words are frequent.
+  private static String text(Random random, int words) {
+    final var text = new StringBuilder();
+    for (int word = 0; word < words; word++) {
+      final var rank = (int) Math.pow(VOCABULARY_SIZE, random.nextDouble()) - 1;
+      text.append("word").append(rank).append(' ');
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,51 @@
+package org.example.realworldapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.realworldapi.application.web.model.response.ArticleResponse;
+import org.example.realworldapi.application.web.model.response.ArticlesResponse;
+import org.example.realworldapi.application.web.model.response.ProfileResponse;
+import org.example.realworldapi.domain.model.article.ArticleView;
+import org.example.realworldapi.infrastructure.configuration.ApplicationConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticlesResponseSerializationBenchmark {
+
+  @Param({"20", "100", "500"})
+  private int articles;
+
+  private ObjectMapper objectMapper;
+  private ArticlesResponse articlesResponse;
+
+  @Setup
+  public void setup() {
+    objectMapper = new ApplicationConfiguration().noWrapRootValueObjectMapper();
+    final var author = BenchmarkFixtures.user(1);
+    final var tags = BenchmarkFixtures.tags();
+    final var articleResponses = new ArrayList<ArticleResponse>(articles);
+    for (int index = 0; index < articles; index++) {
+      articleResponses.add(
+          new ArticleResponse(
+              new ArticleView(BenchmarkFixtures.article(author, index)),
+              new ProfileResponse(author),
+              index,
+              tags));
+    }
+    articlesResponse =
+        new ArticlesResponse(articleResponses, (long) articles, "exact", false, null);
+  }
+
+  @Benchmark
+  public byte[] writeValueAsBytes() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(articlesResponse);
+  }
+}
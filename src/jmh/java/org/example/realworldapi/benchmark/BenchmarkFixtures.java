@@ -0,0 +1,80 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.ArticleModelBuilder;
+import org.example.realworldapi.domain.model.comment.CommentBuilder;
+import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.tag.TagBuilder;
+import org.example.realworldapi.domain.model.user.User;
+import org.example.realworldapi.domain.model.user.UserModelBuilder;
+import org.example.realworldapi.domain.validator.ModelValidator;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import javax.validation.Validation;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class BenchmarkFixtures {
+
+  public static final String ARTICLE_TITLE = "How to Train Your Dragon: A Field Guide for Beginners";
+
+  private static final ModelValidator MODEL_VALIDATOR =
+      new ModelValidator(
+          Validation.byDefaultProvider()
+              .configure()
+              .messageInterpolator(new ParameterMessageInterpolator())
+              .buildValidatorFactory()
+              .getValidator());
+
+  public static ModelValidator modelValidator() {
+    return MODEL_VALIDATOR;
+  }
+
+  public static UserModelBuilder userBuilder() {
+    return new UserModelBuilder(MODEL_VALIDATOR);
+  }
+
+  public static TagBuilder tagBuilder() {
+    return new TagBuilder(MODEL_VALIDATOR);
+  }
+
+  public static ArticleModelBuilder articleBuilder() {
+    return new ArticleModelBuilder(MODEL_VALIDATOR);
+  }
+
+  public static EntityUtils entityUtils() {
+    return new EntityUtils(
+        userBuilder(), tagBuilder(), articleBuilder(), new CommentBuilder(MODEL_VALIDATOR));
+  }
+
+  public static User user(int index) {
+    return userBuilder()
+        .build(
+            UUID.randomUUID(),
+            "user" + index,
+            "bio",
+            "image",
+            "password",
+            "user" + index + "@mail.com");
+  }
+
+  public static Article article(User author, int index) {
+    final var createdAt = LocalDateTime.now();
+    return articleBuilder()
+        .build(
+            UUID.randomUUID(),
+            "how-to-train-your-dragon-" + index,
+            ARTICLE_TITLE,
+            "Ever wonder how?",
+            "You have to believe",
+            createdAt,
+            createdAt,
+            author);
+  }
+
+  public static List<Tag> tags() {
+    return List.of(tagBuilder().build("dragons"), tagBuilder().build("training"));
+  }
+}
@@ -0,0 +1,34 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.ArticleEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityUtilsBenchmark {
+
+  private EntityUtils entityUtils;
+  private ArticleEntity articleEntity;
+
+  @Setup
+  public void setup() {
+    entityUtils = BenchmarkFixtures.entityUtils();
+    final var author = BenchmarkFixtures.user(1);
+    articleEntity =
+        new ArticleEntity(BenchmarkFixtures.article(author, 1), new UserEntity(author));
+  }
+
+  @Benchmark
+  public Article article() {
+    return entityUtils.article(articleEntity);
+  }
+}
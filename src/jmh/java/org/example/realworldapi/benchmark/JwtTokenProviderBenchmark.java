@@ -0,0 +1,38 @@
+package org.example.realworldapi.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.example.realworldapi.infrastructure.provider.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  private JwtTokenProvider tokenProvider;
+  private String subject;
+  private String token;
+
+  @Setup
+  public void setup() {
+    tokenProvider = new JwtTokenProvider("users-service", "secret123", 10);
+    subject = UUID.randomUUID().toString();
+    token = tokenProvider.createUserToken(subject);
+  }
+
+  @Benchmark
+  public String createUserToken() {
+    return tokenProvider.createUserToken(subject);
+  }
+
+  @Benchmark
+  public DecodedJWT verify() {
+    return tokenProvider.verify(token);
+  }
+}
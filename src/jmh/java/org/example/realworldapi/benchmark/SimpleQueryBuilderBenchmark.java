@@ -0,0 +1,54 @@
+package org.example.realworldapi.benchmark;
+
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.SimpleQueryBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleQueryBuilderBenchmark {
+
+  private final List<String> tags = List.of("DRAGONS", "TRAINING");
+  private final List<String> authors = List.of("JAKE");
+  private final List<String> favorited = List.of("JANE");
+
+  @Benchmark
+  public String unfilteredQuery() {
+    SimpleQueryBuilder queryBuilder = new SimpleQueryBuilder();
+    queryBuilder.addQueryStatement(
+        "select articles from ArticleEntity as articles inner join fetch articles.author");
+    return queryBuilder.toQueryString();
+  }
+
+  @Benchmark
+  public String filteredQuery() {
+    Map<String, Object> params = new LinkedHashMap<>();
+    SimpleQueryBuilder queryBuilder = new SimpleQueryBuilder();
+    queryBuilder.addQueryStatement(
+        "select articles from ArticleEntity as articles inner join fetch articles.author");
+    queryBuilder.updateQueryStatementConditional(
+        true,
+        "inner join articles.tags as tags inner join tags.primaryKey.tag as tag",
+        "tag.nameKey in (:tags)",
+        () -> params.put("tags", tags));
+    queryBuilder.updateQueryStatementConditional(
+        true,
+        "inner join articles.author as authors",
+        "authors.usernameKey in (:authors)",
+        () -> params.put("authors", authors));
+    queryBuilder.updateQueryStatementConditional(
+        true,
+        "inner join articles.favorites as favorites inner join favorites.primaryKey.user as user",
+        "user.usernameKey in (:favorites)",
+        () -> params.put("favorites", favorited));
+    return queryBuilder.toQueryString();
+  }
+}
@@ -0,0 +1,28 @@
+package org.example.realworldapi.benchmark;
+
+import com.github.slugify.Slugify;
+import org.example.realworldapi.infrastructure.provider.SlugifySlugProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlugifySlugProviderBenchmark {
+
+  private SlugifySlugProvider slugProvider;
+
+  @Setup
+  public void setup() {
+    slugProvider = new SlugifySlugProvider(new Slugify());
+  }
+
+  @Benchmark
+  public String slugify() {
+    return slugProvider.slugify(BenchmarkFixtures.ARTICLE_TITLE);
+  }
+}
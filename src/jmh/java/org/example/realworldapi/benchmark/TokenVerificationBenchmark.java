@@ -0,0 +1,41 @@
+package org.example.realworldapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.realworldapi.infrastructure.provider.JwtTokenProvider;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedToken;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedTokenCache;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+  private JwtTokenProvider tokenProvider;
+  private VerifiedTokenCache verifiedTokenCache;
+  private String token;
+
+  @Setup
+  public void setup() {
+    tokenProvider = new JwtTokenProvider("users-service", "secret123", 10);
+    verifiedTokenCache = new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), 10_000);
+    token = tokenProvider.createUserToken(UUID.randomUUID().toString());
+  }
+
+  @Benchmark
+  public Role[] uncachedVerify() {
+    return tokenProvider.extractRoles(tokenProvider.verify(token));
+  }
+
+  @Benchmark
+  public VerifiedToken cachedVerify() {
+    return verifiedTokenCache.verify(token);
+  }
+}
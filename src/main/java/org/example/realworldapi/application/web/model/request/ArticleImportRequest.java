@@ -0,0 +1,27 @@
+package org.example.realworldapi.application.web.model.request;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.realworldapi.domain.model.article.ArticleImportInput;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@RegisterForReflection
+public class ArticleImportRequest {
+
+  private String author;
+  private String title;
+  private String description;
+  private String body;
+  private List<String> tagList;
+  private LocalDateTime createdAt;
+
+  public ArticleImportInput toArticleImportInput() {
+    return new ArticleImportInput(
+        this.author, this.title, this.description, this.body, this.tagList, this.createdAt);
+  }
+}
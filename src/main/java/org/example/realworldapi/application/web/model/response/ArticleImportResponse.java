@@ -0,0 +1,34 @@
+package org.example.realworldapi.application.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonRootName;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.realworldapi.domain.model.article.ArticleImportResult;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonRootName("import")
+@RegisterForReflection
+public class ArticleImportResponse {
+
+  private String importId;
+  private long skipped;
+  private long imported;
+  private long rejected;
+  private long elapsedMillis;
+  private double articlesPerSecond;
+
+  public ArticleImportResponse(ArticleImportResult articleImportResult) {
+    final var elapsed = articleImportResult.getElapsed();
+    this.importId = articleImportResult.getImportId();
+    this.skipped = articleImportResult.getSkipped();
+    this.imported = articleImportResult.getImported();
+    this.rejected = articleImportResult.getRejected();
+    this.elapsedMillis = elapsed.toMillis();
+    this.articlesPerSecond =
+        elapsed.isZero() ? 0 : imported * 1_000_000_000d / elapsed.toNanos();
+  }
+}
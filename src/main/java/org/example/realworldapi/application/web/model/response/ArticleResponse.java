@@ -6,7 +6,7 @@ import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.ArticleView;
 import org.example.realworldapi.domain.model.tag.Tag;
 
 import java.time.LocalDateTime;
@@ -37,7 +37,7 @@ public class ArticleResponse {
   private ProfileResponse author;
 
   public ArticleResponse(
-      Article article, ProfileResponse author, long favoritesCount, List<Tag> tags) {
+      ArticleView article, ProfileResponse author, long favoritesCount, List<Tag> tags) {
     this.slug = article.getSlug();
     this.title = article.getTitle();
     this.description = article.getDescription();
@@ -1,5 +1,6 @@
 package org.example.realworldapi.application.web.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,10 +15,26 @@ import java.util.List;
 public class ArticlesResponse {
 
   private List<ArticleResponse> articles;
-  private long articlesCount;
 
-  public ArticlesResponse(List<ArticleResponse> articles, long articlesCount) {
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long articlesCount;
+
+  private String countMode;
+  private boolean hasMore;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
+
+  public ArticlesResponse(
+      List<ArticleResponse> articles,
+      Long articlesCount,
+      String countMode,
+      boolean hasMore,
+      String nextCursor) {
     this.articles = articles;
     this.articlesCount = articlesCount;
+    this.countMode = countMode;
+    this.hasMore = hasMore;
+    this.nextCursor = nextCursor;
   }
 }
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.example.realworldapi.domain.model.comment.Comment;
+import org.example.realworldapi.domain.model.comment.CommentView;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -36,4 +37,12 @@ public class CommentResponse {
     this.body = comment.getBody();
     this.author = author;
   }
+
+  public CommentResponse(CommentView comment, ProfileResponse author) {
+    this.id = comment.getId();
+    this.createdAt = comment.getCreatedAt();
+    this.updatedAt = comment.getUpdatedAt();
+    this.body = comment.getBody();
+    this.author = author;
+  }
 }
@@ -1,5 +1,6 @@
 package org.example.realworldapi.application.web.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,8 +13,14 @@ import java.util.List;
 public class CommentsResponse {
 
   private List<CommentResponse> comments;
+  private boolean hasMore;
 
-  public CommentsResponse(List<CommentResponse> comments) {
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
+
+  public CommentsResponse(List<CommentResponse> comments, boolean hasMore, String nextCursor) {
     this.comments = comments;
+    this.hasMore = hasMore;
+    this.nextCursor = nextCursor;
   }
 }
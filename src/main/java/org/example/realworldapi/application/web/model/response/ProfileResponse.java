@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.realworldapi.domain.model.user.AuthorView;
 import org.example.realworldapi.domain.model.user.User;
 
 @Getter
@@ -18,8 +19,13 @@ public class ProfileResponse {
   private boolean following;
 
   public ProfileResponse(User user) {
-    this.username = user.getUsername();
-    this.bio = user.getBio();
-    this.image = user.getImage();
+    this(new AuthorView(user));
+  }
+
+  public ProfileResponse(AuthorView author) {
+    this.username = author.getUsername();
+    this.bio = author.getBio();
+    this.image = author.getImage();
+    this.following = author.isFollowing();
   }
 }
@@ -0,0 +1,19 @@
+package org.example.realworldapi.application.web.model.response;
+
+import com.fasterxml.jackson.annotation.JsonRootName;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonRootName("reconciliation")
+@RegisterForReflection
+public class ReconciliationResponse {
+
+  private long articles;
+}
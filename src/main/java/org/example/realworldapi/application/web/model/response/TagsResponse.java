@@ -18,4 +18,12 @@ public class TagsResponse {
   public TagsResponse(List<Tag> tags) {
     this.tags = tags.stream().map(Tag::getName).collect(Collectors.toList());
   }
+
+  private TagsResponse() {}
+
+  public static TagsResponse ofNames(List<String> names) {
+    final var tagsResponse = new TagsResponse();
+    tagsResponse.tags = names;
+    return tagsResponse;
+  }
 }
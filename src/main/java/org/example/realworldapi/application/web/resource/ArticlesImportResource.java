@@ -0,0 +1,65 @@
+package org.example.realworldapi.application.web.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.realworldapi.application.web.model.request.ArticleImportRequest;
+import org.example.realworldapi.application.web.model.response.ArticleImportResponse;
+import org.example.realworldapi.domain.model.article.ArticleImportInput;
+import org.example.realworldapi.domain.service.ArticleImportService;
+import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Path("/admin/articles/import")
+public class ArticlesImportResource {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  private final ArticleImportService articleImportService;
+  private final ObjectReader articleImportReader;
+
+  public ArticlesImportResource(
+      ArticleImportService articleImportService,
+      @NoWrapRootValueObjectMapper ObjectMapper objectMapper) {
+    this.articleImportService = articleImportService;
+    this.articleImportReader = objectMapper.readerFor(ArticleImportRequest.class);
+  }
+
+  @POST
+  @Secured({Role.ADMIN})
+  @Consumes(APPLICATION_NDJSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response importArticles(@QueryParam("importId") String importId, InputStream input)
+      throws IOException {
+    final var resolvedImportId =
+        importId == null || importId.isBlank() ? UUID.randomUUID().toString() : importId;
+    try (final var reader =
+        new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      final var articleImportResult =
+          articleImportService.importArticles(
+              resolvedImportId,
+              reader.lines().filter(line -> !line.isBlank()).map(this::articleImportInput));
+      return Response.ok(new ArticleImportResponse(articleImportResult))
+          .status(Response.Status.OK)
+          .build();
+    }
+  }
+
+  private ArticleImportInput articleImportInput(String line) {
+    try {
+      return articleImportReader.<ArticleImportRequest>readValue(line).toArticleImportInput();
+    } catch (IOException ex) {
+      return null;
+    }
+  }
+}
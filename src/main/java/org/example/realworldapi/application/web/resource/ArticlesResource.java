@@ -1,7 +1,5 @@
 package org.example.realworldapi.application.web.resource;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.application.web.model.request.NewArticleRequest;
 import org.example.realworldapi.application.web.model.request.NewCommentRequest;
@@ -10,7 +8,7 @@ import org.example.realworldapi.application.web.resource.utils.ResourceUtils;
 import org.example.realworldapi.domain.model.article.ArticleFilter;
 import org.example.realworldapi.domain.model.comment.DeleteCommentInput;
 import org.example.realworldapi.domain.model.constants.ValidationMessages;
-import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+import org.example.realworldapi.infrastructure.web.cache.ArticlesResponseCache;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.domain.service.ArticlesService;
@@ -20,9 +18,11 @@ import javax.transaction.Transactional;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import java.util.List;
@@ -32,11 +32,11 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ArticlesResource {
 
-  @NoWrapRootValueObjectMapper ObjectMapper objectMapper;
   private final ResourceUtils resourceUtils;
 
   private final ArticlesService articlesService;
   private final CommentService commentService;
+  private final ArticlesResponseCache articlesResponseCache;
 
   @GET
   @Path("/feed")
@@ -45,15 +45,41 @@ public class ArticlesResource {
   public Response feed(
       @QueryParam("offset") int offset,
       @QueryParam("limit") int limit,
-      @Context SecurityContext securityContext)
-      throws JsonProcessingException {
+      @QueryParam("cursor") String cursor,
+      @QueryParam("count") String count,
+      @Context SecurityContext securityContext) {
     final var loggedUserId = resourceUtils.getLoggedUserId(securityContext);
     final var articlesFilter =
-        new ArticleFilter(offset, resourceUtils.getLimit(limit), loggedUserId, null, null, null);
+        new ArticleFilter(
+            offset,
+            resourceUtils.getLimit(limit),
+            loggedUserId,
+            null,
+            null,
+            null,
+            resourceUtils.getCursor(cursor),
+            resourceUtils.getCountMode(count));
     final var articlesPageResult = articlesService.findMostRecentByFilter(articlesFilter);
     return Response.ok(
-            objectMapper.writeValueAsString(
-                resourceUtils.articlesResponse(articlesPageResult, loggedUserId)))
+            resourceUtils.articlesResponse(articlesPageResult, loggedUserId))
+        .status(Response.Status.OK)
+        .build();
+  }
+
+  @GET
+  @Path("/search")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Secured(optional = true)
+  public Response search(
+      @QueryParam("q") @NotBlank(message = ValidationMessages.QUERY_MUST_BE_NOT_BLANK) String query,
+      @QueryParam("offset") @PositiveOrZero(message = ValidationMessages.OFFSET_MUST_NOT_BE_NEGATIVE)
+          int offset,
+      @QueryParam("limit") int limit,
+      @Context SecurityContext securityContext) {
+    final var loggedUserId = resourceUtils.getLoggedUserId(securityContext);
+    final var articlesPageResult =
+        articlesService.search(query, offset, resourceUtils.getLimit(limit));
+    return Response.ok(resourceUtils.searchResponse(articlesPageResult, loggedUserId))
         .status(Response.Status.OK)
         .build();
   }
@@ -67,16 +93,28 @@ public class ArticlesResource {
       @QueryParam("tag") List<String> tags,
       @QueryParam("author") List<String> authors,
       @QueryParam("favorited") List<String> favorited,
-      @Context SecurityContext securityContext)
-      throws JsonProcessingException {
+      @QueryParam("cursor") String cursor,
+      @QueryParam("count") String count,
+      @Context SecurityContext securityContext,
+      @Context Request request) {
     final var loggedUserId = resourceUtils.getLoggedUserId(securityContext);
     final var filter =
         new ArticleFilter(
-            offset, resourceUtils.getLimit(limit), loggedUserId, tags, authors, favorited);
+            offset,
+            resourceUtils.getLimit(limit),
+            loggedUserId,
+            tags,
+            authors,
+            favorited,
+            resourceUtils.getCursor(cursor),
+            resourceUtils.getCountMode(count));
+    if (loggedUserId == null) {
+      final var cached = articlesResponseCache.get(filter);
+      return resourceUtils.conditionalResponse(request, cached.getEntityTag(), cached::getBody);
+    }
     final var articlesPageResult = articlesService.findByFilter(filter);
     return Response.ok(
-            objectMapper.writeValueAsString(
-                resourceUtils.articlesResponse(articlesPageResult, loggedUserId)))
+            resourceUtils.articlesResponse(articlesPageResult, loggedUserId))
         .status(Response.Status.OK)
         .build();
   }
@@ -102,11 +140,13 @@ public class ArticlesResource {
   @Produces(MediaType.APPLICATION_JSON)
   public Response findBySlug(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK)
-          String slug) {
+          String slug,
+      @Context Request request) {
     final var article = articlesService.findBySlug(slug);
-    return Response.ok(resourceUtils.articleResponse(article, null))
-        .status(Response.Status.OK)
-        .build();
+    return resourceUtils.conditionalResponse(
+        request,
+        resourceUtils.articleEntityTag(article),
+        () -> resourceUtils.articleResponse(article, null));
   }
 
   @PUT
@@ -146,14 +186,21 @@ public class ArticlesResource {
   @Produces(MediaType.APPLICATION_JSON)
   public Response getCommentsBySlug(
       @PathParam("slug") @NotBlank(message = ValidationMessages.SLUG_MUST_BE_NOT_BLANK) String slug,
-      @Context SecurityContext securityContext)
-      throws JsonProcessingException {
+      @QueryParam("limit") int limit,
+      @QueryParam("cursor") String cursor,
+      @Context SecurityContext securityContext,
+      @Context Request request) {
     final var loggedUserId = resourceUtils.getLoggedUserId(securityContext);
-    final var comments = commentService.findByArticleSlug(slug);
-    return Response.ok(
-            objectMapper.writeValueAsString(resourceUtils.commentsResponse(comments, loggedUserId)))
-        .status(Response.Status.OK)
-        .build();
+    final var comments =
+        commentService.findByArticleSlug(
+            slug,
+            loggedUserId,
+            resourceUtils.getCommentCursor(cursor),
+            resourceUtils.getCommentsLimit(limit, cursor));
+    return resourceUtils.conditionalResponse(
+        request,
+        resourceUtils.commentsEntityTag(comments),
+        () -> resourceUtils.commentsResponse(comments));
   }
 
   @POST
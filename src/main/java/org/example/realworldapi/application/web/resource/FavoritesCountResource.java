@@ -0,0 +1,35 @@
+package org.example.realworldapi.application.web.resource;
+
+import lombok.AllArgsConstructor;
+import org.example.realworldapi.application.web.model.response.ReconciliationResponse;
+import org.example.realworldapi.domain.service.ArticlesService;
+import org.example.realworldapi.infrastructure.web.cache.ArticlesResponseCache;
+import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+@Path("/admin/articles/favorites-count")
+@AllArgsConstructor
+public class FavoritesCountResource {
+
+  private final ArticlesService articlesService;
+  private final ArticlesResponseCache articlesResponseCache;
+
+  // Recounts the favorites of every article whose counter drifted from its favorite rows. The
+  // reconciliation commits on its own, so cached pages are dropped only once it is visible.
+  @POST
+  @Secured({Role.ADMIN})
+  @Produces(MediaType.APPLICATION_JSON)
+  public Response reconcile() {
+    final var reconciled = articlesService.reconcileFavoritesCount();
+    if (reconciled > 0) {
+      articlesResponseCache.invalidate();
+    }
+    return Response.ok(new ReconciliationResponse(reconciled)).status(Response.Status.OK).build();
+  }
+}
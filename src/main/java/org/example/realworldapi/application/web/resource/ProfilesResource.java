@@ -6,12 +6,14 @@ import org.example.realworldapi.domain.model.constants.ValidationMessages;
 import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
 import org.example.realworldapi.domain.service.FollowService;
+import org.example.realworldapi.domain.service.UserService;
 
 import javax.transaction.Transactional;
 import javax.validation.constraints.NotBlank;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
@@ -21,6 +23,7 @@ public class ProfilesResource {
 
   private final ResourceUtils resourceUtils;
   private final FollowService followService;
+  private final UserService userService;
 
   @GET
   @Secured(optional = true)
@@ -29,10 +32,15 @@ public class ProfilesResource {
   public Response getProfile(
       @PathParam("username") @NotBlank(message = ValidationMessages.USERNAME_MUST_BE_NOT_BLANK)
           String username,
-      @Context SecurityContext securityContext) {
+      @Context SecurityContext securityContext,
+      @Context Request request) {
     final var loggedUserId = resourceUtils.getLoggedUserId(securityContext);
-    final var profileResponse = resourceUtils.profileResponse(username, loggedUserId);
-    return Response.ok(profileResponse).status(Response.Status.OK).build();
+    final var user = userService.findByUsername(username);
+    final var following = resourceUtils.isFollowing(user, loggedUserId);
+    return resourceUtils.conditionalResponse(
+        request,
+        resourceUtils.profileEntityTag(user, following),
+        () -> resourceUtils.profileResponse(user, following));
   }
 
   @POST
@@ -1,33 +1,37 @@
 package org.example.realworldapi.application.web.resource;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
-import org.example.realworldapi.application.web.model.response.TagsResponse;
-import org.example.realworldapi.domain.model.tag.Tag;
-import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
-import org.example.realworldapi.domain.service.TagService;
+import org.example.realworldapi.application.web.resource.utils.ResourceUtils;
+import org.example.realworldapi.domain.model.constants.ValidationMessages;
+import org.example.realworldapi.infrastructure.web.cache.TagsResponseCache;
 
+import javax.validation.constraints.Positive;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.util.List;
 
 @Path("/tags")
 @AllArgsConstructor
 public class TagsResource {
 
-  @NoWrapRootValueObjectMapper ObjectMapper objectMapper;
-  private final TagService tagService;
+  public static final int MAX_TOP = 100;
+
+  private final ResourceUtils resourceUtils;
+  private final TagsResponseCache tagsResponseCache;
 
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public Response getTags() throws JsonProcessingException {
-    List<Tag> tags = tagService.find();
-    return Response.ok(objectMapper.writeValueAsString(new TagsResponse(tags)))
-        .status(Response.Status.OK)
-        .build();
+  public Response getTags(
+      @QueryParam("top") @Positive(message = ValidationMessages.TOP_MUST_BE_POSITIVE) Integer top,
+      @Context Request request) {
+    final var tagsResponse =
+        top != null ? tagsResponseCache.getTop(Math.min(top, MAX_TOP)) : tagsResponseCache.get();
+    return resourceUtils.conditionalResponse(
+        request, tagsResponse.getEntityTag(), tagsResponse::getBody);
   }
 }
@@ -0,0 +1,31 @@
+package org.example.realworldapi.application.web.resource.utils;
+
+import javax.ws.rs.core.EntityTag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+public final class EntityTags {
+
+  private static final String SEPARATOR = "\u0000";
+
+  private EntityTags() {}
+
+  public static EntityTag of(Object... versions) {
+    final var joined =
+        Arrays.stream(versions).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+    return of(joined.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static EntityTag of(byte[] content) {
+    try {
+      final var digest = MessageDigest.getInstance("SHA-256").digest(content);
+      return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -1,20 +1,40 @@
 package org.example.realworldapi.application.web.resource.utils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.application.web.model.response.*;
+import org.example.realworldapi.domain.exception.InvalidCountModeException;
+import org.example.realworldapi.domain.exception.InvalidCursorException;
 import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.ArticleCursor;
+import org.example.realworldapi.domain.model.article.ArticleView;
+import org.example.realworldapi.domain.model.article.CountMode;
 import org.example.realworldapi.domain.model.article.PageResult;
 import org.example.realworldapi.domain.model.comment.Comment;
+import org.example.realworldapi.domain.model.comment.CommentCursor;
+import org.example.realworldapi.domain.model.comment.CommentRepository;
+import org.example.realworldapi.domain.model.comment.CommentView;
+import org.example.realworldapi.domain.model.user.User;
 import org.example.realworldapi.domain.service.ArticlesService;
 import org.example.realworldapi.domain.service.FollowService;
 import org.example.realworldapi.domain.service.TagService;
 import org.example.realworldapi.domain.service.UserService;
+import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
@@ -22,6 +42,9 @@ import java.util.stream.Collectors;
 public class ResourceUtils {
 
   private static final int DEFAULT_LIMIT = 20;
+  private static final int MAX_LIMIT = 100;
+  private static final String CURSOR_SEPARATOR = "|";
+  @NoWrapRootValueObjectMapper ObjectMapper objectMapper;
   private final UserService userService;
   private final ArticlesService articlesService;
   private final TagService tagService;
@@ -29,31 +52,79 @@ public class ResourceUtils {
 
   public ProfileResponse profileResponse(String username, UUID loggedUserId) {
     final var user = userService.findByUsername(username);
+    return profileResponse(user, isFollowing(user, loggedUserId));
+  }
+
+  public ProfileResponse profileResponse(User user, boolean following) {
     final var profileResponse = new ProfileResponse(user);
-    if (loggedUserId != null) {
-      profileResponse.setFollowing(followService.isFollowingUser(loggedUserId, user.getId()));
-    }
+    profileResponse.setFollowing(following);
     return profileResponse;
   }
 
+  public boolean isFollowing(User user, UUID loggedUserId) {
+    return loggedUserId != null && followService.isFollowingUser(loggedUserId, user.getId());
+  }
+
   public ArticleResponse articleResponse(Article article, UUID loggedUserId) {
-    final var author = article.getAuthor();
-    final var profileResponse = profileResponse(author.getUsername(), author.getId());
-    final var tags = tagService.findArticleTags(article);
-    final var favoritesCount = articlesService.favoritesCount(article.getId());
-    final var articleResponse = new ArticleResponse(article, profileResponse, favoritesCount, tags);
-    if (loggedUserId != null) {
-      articleResponse.setFavorited(articlesService.isArticleFavorited(article, loggedUserId));
-    }
-    return articleResponse;
+    final var articleView = new ArticleView(article);
+    return articleResponseAssembler(List.of(articleView), loggedUserId).apply(articleView);
+  }
+
+  public StreamingOutput articlesResponse(
+      PageResult<ArticleView> pageResult, UUID loggedUserId) {
+    return articlesResponse(pageResult, loggedUserId, true);
+  }
+
+  public StreamingOutput searchResponse(PageResult<ArticleView> pageResult, UUID loggedUserId) {
+    return articlesResponse(pageResult, loggedUserId, false);
+  }
+
+  private StreamingOutput articlesResponse(
+      PageResult<ArticleView> pageResult, UUID loggedUserId, boolean cursorPaged) {
+    final var articles = pageResult.getResult();
+    final var nextCursor =
+        cursorPaged && pageResult.isHasMore() ? cursor(articles.get(articles.size() - 1)) : null;
+    final var articlesResponse =
+        new ArticlesResponse(
+            assembledOnWrite(articles, articleResponseAssembler(articles, loggedUserId)),
+            pageResult.getTotal(),
+            pageResult.getCountMode().name().toLowerCase(Locale.ROOT),
+            pageResult.isHasMore(),
+            nextCursor);
+    return output -> objectMapper.writeValue(output, articlesResponse);
   }
 
-  public ArticlesResponse articlesResponse(PageResult<Article> pageResult, UUID loggedUserId) {
-    final var resultResponse =
-        pageResult.getResult().stream()
-            .map(article -> articleResponse(article, loggedUserId))
-            .collect(Collectors.toList());
-    return new ArticlesResponse(resultResponse, pageResult.getTotal());
+  private Function<ArticleView, ArticleResponse> articleResponseAssembler(
+      List<ArticleView> articles, UUID loggedUserId) {
+    if (articles.isEmpty()) {
+      return article -> null;
+    }
+    final var articleIds = articles.stream().map(ArticleView::getId).collect(Collectors.toSet());
+    final var authorIds =
+        articles.stream().map(article -> article.getAuthor().getId()).collect(Collectors.toSet());
+    final var articlesTags = tagService.findArticlesTags(articleIds);
+    final var favoritesCount = articlesService.favoritesCount(articleIds);
+    final Set<UUID> favoritedArticleIds =
+        loggedUserId != null
+            ? articlesService.findFavoritedArticleIds(articleIds, loggedUserId)
+            : Collections.emptySet();
+    final Set<UUID> followedAuthorIds =
+        loggedUserId != null
+            ? followService.findFollowedUserIds(loggedUserId, authorIds)
+            : Collections.emptySet();
+    return article -> {
+      final var author = article.getAuthor();
+      final var profileResponse = new ProfileResponse(author);
+      profileResponse.setFollowing(followedAuthorIds.contains(author.getId()));
+      final var articleResponse =
+          new ArticleResponse(
+              article,
+              profileResponse,
+              favoritesCount.getOrDefault(article.getId(), 0L),
+              articlesTags.getOrDefault(article.getId(), Collections.emptyList()));
+      articleResponse.setFavorited(favoritedArticleIds.contains(article.getId()));
+      return articleResponse;
+    };
   }
 
   public CommentResponse commentResponse(Comment comment, UUID loggedUserId) {
@@ -67,15 +138,138 @@ public class ResourceUtils {
     return principal != null ? UUID.fromString(principal.getName()) : null;
   }
 
-  public CommentsResponse commentsResponse(List<Comment> comments, UUID loggedUserId) {
-    final var resultResponse =
-        comments.stream()
-            .map(comment -> commentResponse(comment, loggedUserId))
-            .collect(Collectors.toList());
-    return new CommentsResponse(resultResponse);
+  public StreamingOutput commentsResponse(PageResult<CommentView> pageResult) {
+    final var comments = pageResult.getResult();
+    final var nextCursor =
+        pageResult.isHasMore() ? cursor(comments.get(comments.size() - 1)) : null;
+    final var commentsResponse =
+        new CommentsResponse(
+            assembledOnWrite(
+                comments,
+                comment -> new CommentResponse(comment, new ProfileResponse(comment.getAuthor()))),
+            pageResult.isHasMore(),
+            nextCursor);
+    return output -> objectMapper.writeValue(output, commentsResponse);
+  }
+
+  /**
+   * Every lookup the assembler needs has already run, so Jackson builds each element while it
+   * writes the list and no response list is held in memory.
+   */
+  private static <T, R> List<R> assembledOnWrite(List<T> source, Function<T, R> assembler) {
+    return new AbstractList<>() {
+      @Override
+      public R get(int index) {
+        return assembler.apply(source.get(index));
+      }
+
+      @Override
+      public int size() {
+        return source.size();
+      }
+    };
+  }
+
+  public Response conditionalResponse(
+      Request request, EntityTag entityTag, Supplier<Object> entity) {
+    final var notModified = request.evaluatePreconditions(entityTag);
+    if (notModified != null) {
+      return notModified.tag(entityTag).build();
+    }
+    return Response.ok(entity.get()).tag(entityTag).status(Response.Status.OK).build();
+  }
+
+  public EntityTag articleEntityTag(Article article) {
+    final var author = article.getAuthor();
+    return EntityTags.of(
+        article.getId(),
+        article.getUpdatedAt(),
+        articlesService.favoritesCount(article.getId()),
+        author.getUsername(),
+        author.getBio(),
+        author.getImage());
+  }
+
+  public EntityTag commentsEntityTag(PageResult<CommentView> pageResult) {
+    final var versions = new ArrayList<>();
+    versions.add(pageResult.isHasMore());
+    for (CommentView comment : pageResult.getResult()) {
+      final var author = comment.getAuthor();
+      versions.add(comment.getId());
+      versions.add(comment.getUpdatedAt());
+      versions.add(author.getUsername());
+      versions.add(author.getBio());
+      versions.add(author.getImage());
+      versions.add(author.isFollowing());
+    }
+    return EntityTags.of(versions.toArray());
+  }
+
+  public EntityTag profileEntityTag(User user, boolean following) {
+    return EntityTags.of(user.getUsername(), user.getBio(), user.getImage(), following);
   }
 
   public int getLimit(int limit) {
-    return limit > 0 ? limit : DEFAULT_LIMIT;
+    return limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+  }
+
+  /**
+   * Comments are only paged when the client asks for it. Without limit or cursor the whole
+   * thread is returned, as before paging existed.
+   */
+  public int getCommentsLimit(int limit, String cursor) {
+    return limit > 0 || (cursor != null && !cursor.isBlank())
+        ? getLimit(limit)
+        : CommentRepository.UNLIMITED;
+  }
+
+  public CountMode getCountMode(String countMode) {
+    if (countMode == null || countMode.isBlank()) {
+      return CountMode.EXACT;
+    }
+    try {
+      return CountMode.valueOf(countMode.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCountModeException();
+    }
+  }
+
+  public ArticleCursor getCursor(String cursor) {
+    return decodeCursor(cursor, ArticleCursor::new);
+  }
+
+  public CommentCursor getCommentCursor(String cursor) {
+    return decodeCursor(cursor, CommentCursor::new);
+  }
+
+  private <T> T decodeCursor(String cursor, BiFunction<LocalDateTime, UUID, T> factory) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      final var decoded =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      final var separatorIndex = decoded.indexOf(CURSOR_SEPARATOR);
+      return factory.apply(
+          LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+          UUID.fromString(decoded.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+      throw new InvalidCursorException();
+    }
+  }
+
+  private String cursor(ArticleView article) {
+    return encodeCursor(article.getCreatedAt(), article.getId());
+  }
+
+  private String cursor(CommentView comment) {
+    return encodeCursor(comment.getCreatedAt(), comment.getId());
+  }
+
+  private String encodeCursor(LocalDateTime createdAt, UUID id) {
+    final var cursor = createdAt + CURSOR_SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
   }
 }
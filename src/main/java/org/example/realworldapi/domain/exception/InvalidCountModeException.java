@@ -0,0 +1,8 @@
+package org.example.realworldapi.domain.exception;
+
+public class InvalidCountModeException extends BusinessException {
+
+  public InvalidCountModeException() {
+    super(10, "invalid count mode");
+  }
+}
@@ -0,0 +1,8 @@
+package org.example.realworldapi.domain.exception;
+
+public class InvalidCursorException extends BusinessException {
+
+  public InvalidCursorException() {
+    super(9, "invalid cursor");
+  }
+}
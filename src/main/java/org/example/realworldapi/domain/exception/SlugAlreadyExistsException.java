@@ -0,0 +1,8 @@
+package org.example.realworldapi.domain.exception;
+
+public class SlugAlreadyExistsException extends BusinessException {
+
+  public SlugAlreadyExistsException() {
+    super(11, "slug already exists");
+  }
+}
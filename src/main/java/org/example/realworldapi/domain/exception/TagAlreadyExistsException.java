@@ -0,0 +1,8 @@
+package org.example.realworldapi.domain.exception;
+
+public class TagAlreadyExistsException extends BusinessException {
+
+  public TagAlreadyExistsException() {
+    super(12, "tag already exists");
+  }
+}
@@ -0,0 +1,16 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleChangedEvent {
+  private final UUID articleId;
+  private final String author;
+  private final List<String> tags;
+  private final boolean listingChanged;
+}
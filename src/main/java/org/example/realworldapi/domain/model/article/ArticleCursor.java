@@ -0,0 +1,14 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleCursor {
+  private final LocalDateTime createdAt;
+  private final UUID id;
+}
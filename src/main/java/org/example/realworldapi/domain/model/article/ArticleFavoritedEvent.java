@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleFavoritedEvent {
+  private final UUID articleId;
+  private final String username;
+}
@@ -15,4 +15,6 @@ public class ArticleFilter {
   private final List<String> tags;
   private final List<String> authors;
   private final List<String> favorited;
+  private final ArticleCursor cursor;
+  private final CountMode countMode;
 }
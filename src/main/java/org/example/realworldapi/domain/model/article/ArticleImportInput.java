@@ -0,0 +1,18 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ArticleImportInput {
+  private String author;
+  private String title;
+  private String description;
+  private String body;
+  private List<String> tagList;
+  private LocalDateTime createdAt;
+}
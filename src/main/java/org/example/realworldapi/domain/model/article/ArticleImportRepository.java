@@ -0,0 +1,27 @@
+package org.example.realworldapi.domain.model.article;
+
+import org.example.realworldapi.domain.model.tag.Tag;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ArticleImportRepository {
+  long findCheckpoint(String importId);
+
+  Map<String, UUID> findAuthorIds();
+
+  Map<String, UUID> findTagIds();
+
+  Map<String, UUID> findTagIds(Set<String> nameKeys);
+
+  Set<String> findSlugKeys(Set<String> slugKeys);
+
+  void saveChunk(
+      String importId,
+      long checkpoint,
+      List<ImportedArticle> articles,
+      List<Tag> tags,
+      Map<UUID, Long> tagUsages);
+}
@@ -0,0 +1,16 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Duration;
+
+@Data
+@AllArgsConstructor
+public class ArticleImportResult {
+  private String importId;
+  private long skipped;
+  private long imported;
+  private long rejected;
+  private Duration elapsed;
+}
@@ -1,12 +1,13 @@
 package org.example.realworldapi.domain.model.article;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ArticleRepository {
-  boolean existsBySlug(String slug);
-
   void save(Article article);
 
   Optional<Article> findArticleById(UUID id);
@@ -19,9 +20,17 @@ public interface ArticleRepository {
 
   void delete(Article article);
 
-  PageResult<Article> findMostRecentArticlesByFilter(ArticleFilter articleFilter);
+  PageResult<ArticleView> findArticlesByFilter(ArticleFilter filter);
+
+  List<ArticleView> findViewsByIds(Collection<UUID> ids);
 
-  PageResult<Article> findArticlesByFilter(ArticleFilter filter);
+  List<ArticleSearchDocument> findSearchDocuments(UUID afterId, int limit);
 
   long count(List<String> tags, List<String> authors, List<String> favorited);
+
+  Map<UUID, Long> favoritesCount(Set<UUID> articleIds);
+
+  void updateFavoritesCount(UUID articleId, long delta);
+
+  int reconcileFavoritesCount();
 }
@@ -0,0 +1,15 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleSearchDocument {
+  private final UUID id;
+  private final String title;
+  private final String description;
+  private final String body;
+}
@@ -0,0 +1,7 @@
+package org.example.realworldapi.domain.model.article;
+
+import java.util.UUID;
+
+public interface ArticleSearchIndex {
+  PageResult<UUID> search(String query, int firstResult, int maxResults);
+}
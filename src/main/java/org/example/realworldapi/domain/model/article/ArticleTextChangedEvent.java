@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleTextChangedEvent {
+  private UUID articleId;
+  private ArticleSearchDocument document;
+}
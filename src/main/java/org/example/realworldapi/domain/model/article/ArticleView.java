@@ -0,0 +1,56 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.realworldapi.domain.model.user.AuthorView;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ArticleView {
+  private final UUID id;
+  private final String slug;
+  private final String title;
+  private final String description;
+  private final String body;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+  private final AuthorView author;
+
+  public ArticleView(
+      UUID id,
+      String slug,
+      String title,
+      String description,
+      String body,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      UUID authorId,
+      String authorUsername,
+      String authorBio,
+      String authorImage) {
+    this(
+        id,
+        slug,
+        title,
+        description,
+        body,
+        createdAt,
+        updatedAt,
+        new AuthorView(authorId, authorUsername, authorBio, authorImage));
+  }
+
+  public ArticleView(Article article) {
+    this(
+        article.getId(),
+        article.getSlug(),
+        article.getTitle(),
+        article.getDescription(),
+        article.getBody(),
+        article.getCreatedAt(),
+        article.getUpdatedAt(),
+        new AuthorView(article.getAuthor()));
+  }
+}
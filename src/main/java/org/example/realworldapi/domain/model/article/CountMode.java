@@ -0,0 +1,8 @@
+package org.example.realworldapi.domain.model.article;
+
+public enum CountMode {
+  EXACT,
+  CACHED,
+  ESTIMATED,
+  NONE
+}
@@ -1,12 +1,13 @@
 package org.example.realworldapi.domain.model.article;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface FavoriteRelationshipRepository {
   boolean isFavorited(Article article, UUID currentUserId);
 
-  long favoritesCount(Article article);
+  Set<UUID> findFavoritedArticleIds(Set<UUID> articleIds, UUID currentUserId);
 
   Optional<FavoriteRelationship> findByArticleIdAndUserId(UUID articleId, UUID currentUserId);
 
@@ -0,0 +1,31 @@
+package org.example.realworldapi.domain.model.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.realworldapi.domain.model.constants.ValidationMessages;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class ImportedArticle {
+  @NotNull private UUID id;
+  @NotBlank private String slug;
+
+  @NotBlank(message = ValidationMessages.TITLE_MUST_BE_NOT_BLANK)
+  private String title;
+
+  @NotBlank(message = ValidationMessages.DESCRIPTION_MUST_BE_NOT_BLANK)
+  private String description;
+
+  @NotBlank(message = ValidationMessages.BODY_MUST_BE_NOT_BLANK)
+  private String body;
+
+  @NotNull private LocalDateTime createdAt;
+  @NotNull private UUID authorId;
+  private List<UUID> tagIds;
+}
@@ -9,5 +9,7 @@ import java.util.List;
 @AllArgsConstructor
 public class PageResult<T> {
   private List<T> result;
-  private long total;
+  private Long total;
+  private CountMode countMode;
+  private boolean hasMore;
 }
@@ -3,9 +3,16 @@ package org.example.realworldapi.domain.model.article;
 import org.example.realworldapi.domain.model.tag.Tag;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public interface TagRelationshipRepository {
   void save(TagRelationship tagRelationship);
 
+  void saveAll(Article article, List<Tag> tags);
+
   List<Tag> findArticleTags(Article article);
+
+  Map<UUID, List<Tag>> findArticlesTags(Set<UUID> articleIds);
 }
@@ -0,0 +1,20 @@
+package org.example.realworldapi.domain.model.article;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TimelineRepository {
+  void fanOut(Article article);
+
+  void fanOut(List<UUID> articleIds);
+
+  void backfill(UUID userId, UUID followedUserId);
+
+  void prune(UUID userId, UUID followedUserId);
+
+  void backfillFollowers(UUID authorId);
+
+  void deleteByArticle(UUID articleId);
+
+  PageResult<ArticleView> findTimeline(ArticleFilter filter);
+}
@@ -0,0 +1,14 @@
+package org.example.realworldapi.domain.model.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class CommentCursor {
+  private final LocalDateTime createdAt;
+  private final UUID id;
+}
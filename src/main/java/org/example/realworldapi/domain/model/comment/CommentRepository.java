@@ -1,17 +1,20 @@
 package org.example.realworldapi.domain.model.comment;
 
-import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.PageResult;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CommentRepository {
+  /** Passed as limit to read every comment of the article in a single page. */
+  int UNLIMITED = 0;
+
   void save(Comment comment);
 
   Optional<Comment> findByIdAndAuthor(UUID commentId, UUID authorId);
 
   void delete(Comment comment);
 
-  List<Comment> findCommentsByArticle(Article article);
+  PageResult<CommentView> findCommentViewsByArticle(
+      UUID articleId, UUID loggedUserId, CommentCursor cursor, int limit);
 }
@@ -0,0 +1,36 @@
+package org.example.realworldapi.domain.model.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.realworldapi.domain.model.user.AuthorView;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class CommentView {
+  private final UUID id;
+  private final String body;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+  private final AuthorView author;
+
+  public CommentView(
+      UUID id,
+      String body,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      UUID authorId,
+      String authorUsername,
+      String authorBio,
+      String authorImage,
+      UUID followerId) {
+    this(
+        id,
+        body,
+        createdAt,
+        updatedAt,
+        new AuthorView(authorId, authorUsername, authorBio, authorImage, followerId != null));
+  }
+}
@@ -11,4 +11,7 @@ public class ValidationMessages {
   public static final String TITLE_MUST_BE_NOT_BLANK = "title must not be blank";
   public static final String DESCRIPTION_MUST_BE_NOT_BLANK = "description must not be blank";
   public static final String BODY_MUST_BE_NOT_BLANK = "body must not be blank";
+  public static final String QUERY_MUST_BE_NOT_BLANK = "query must not be blank";
+  public static final String OFFSET_MUST_NOT_BE_NEGATIVE = "offset must not be negative";
+  public static final String TOP_MUST_BE_POSITIVE = "top must be positive";
 }
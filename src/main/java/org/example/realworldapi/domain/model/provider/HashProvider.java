@@ -4,4 +4,6 @@ public interface HashProvider {
   String hashPassword(String password);
 
   boolean checkPassword(String plaintext, String hashed);
+
+  boolean needsRehash(String hashed);
 }
@@ -0,0 +1,10 @@
+package org.example.realworldapi.domain.model.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TagCreatedEvent {
+  private final Tag tag;
+}
@@ -1,7 +1,9 @@
 package org.example.realworldapi.domain.model.tag;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface TagRepository {
   List<Tag> findAllTags();
@@ -10,5 +12,11 @@ public interface TagRepository {
 
   void save(Tag tag);
 
+  List<Tag> saveAllIfAbsent(List<Tag> tags);
+
   List<Tag> findByNames(List<String> names);
+
+  List<TagUsage> findUsages();
+
+  void updateUsageCount(Collection<UUID> tagIds, long delta);
 }
@@ -0,0 +1,14 @@
+package org.example.realworldapi.domain.model.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class TagUsage {
+  private final UUID tagId;
+  private final String name;
+  private final long usageCount;
+}
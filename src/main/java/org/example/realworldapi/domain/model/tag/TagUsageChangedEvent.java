@@ -0,0 +1,14 @@
+package org.example.realworldapi.domain.model.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class TagUsageChangedEvent {
+  private UUID tagId;
+  private String name;
+  private long delta;
+}
@@ -0,0 +1,24 @@
+package org.example.realworldapi.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class AuthorView {
+  private final UUID id;
+  private final String username;
+  private final String bio;
+  private final String image;
+  private final boolean following;
+
+  public AuthorView(UUID id, String username, String bio, String image) {
+    this(id, username, bio, image, false);
+  }
+
+  public AuthorView(User user) {
+    this(user.getId(), user.getUsername(), user.getBio(), user.getImage());
+  }
+}
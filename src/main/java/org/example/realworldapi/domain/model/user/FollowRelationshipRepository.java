@@ -1,12 +1,15 @@
 package org.example.realworldapi.domain.model.user;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface FollowRelationshipRepository {
 
   boolean isFollowing(UUID currentUserId, UUID followedUserId);
 
+  Set<UUID> findFollowedUserIds(UUID currentUserId, Set<UUID> followedUserIds);
+
   void save(FollowRelationship followRelationship);
 
   Optional<FollowRelationship> findByUsers(User loggedUser, User followedUser);
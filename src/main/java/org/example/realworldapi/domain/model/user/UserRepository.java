@@ -18,5 +18,9 @@ public interface UserRepository {
 
   void update(User user);
 
+  void updatePassword(UUID userId, String password);
+
   Optional<User> findByUsername(String username);
+
+  void updateFollowersCount(UUID userId, long delta);
 }
@@ -0,0 +1,13 @@
+package org.example.realworldapi.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class UserUnfollowedEvent {
+  private final UUID userId;
+  private final UUID unfollowedUserId;
+}
@@ -0,0 +1,12 @@
+package org.example.realworldapi.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class UserUpdatedEvent {
+  private final UUID userId;
+}
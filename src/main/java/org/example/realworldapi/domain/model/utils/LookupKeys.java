@@ -0,0 +1,18 @@
+package org.example.realworldapi.domain.model.utils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public final class LookupKeys {
+
+  private LookupKeys() {}
+
+  public static String key(String value) {
+    return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+  }
+
+  public static List<String> keys(List<String> values) {
+    return values.stream().map(LookupKeys::key).collect(Collectors.toList());
+  }
+}
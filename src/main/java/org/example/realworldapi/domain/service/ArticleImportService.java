@@ -0,0 +1,273 @@
+package org.example.realworldapi.domain.service;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.exception.ModelValidationException;
+import org.example.realworldapi.domain.exception.SlugAlreadyExistsException;
+import org.example.realworldapi.domain.exception.TagAlreadyExistsException;
+import org.example.realworldapi.domain.model.article.ArticleChangedEvent;
+import org.example.realworldapi.domain.model.article.ArticleImportInput;
+import org.example.realworldapi.domain.model.article.ArticleImportRepository;
+import org.example.realworldapi.domain.model.article.ArticleImportResult;
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+import org.example.realworldapi.domain.model.article.ArticleTextChangedEvent;
+import org.example.realworldapi.domain.model.article.ImportedArticle;
+import org.example.realworldapi.domain.model.provider.SlugProvider;
+import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.tag.TagBuilder;
+import org.example.realworldapi.domain.model.tag.TagCreatedEvent;
+import org.example.realworldapi.domain.model.tag.TagUsageChangedEvent;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+import org.example.realworldapi.domain.validator.ModelValidator;
+
+import javax.enterprise.event.Event;
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Singleton
+public class ArticleImportService {
+
+    private final ArticleImportRepository articleImportRepository;
+    private final SlugProvider slugProvider;
+    private final TagBuilder tagBuilder;
+    private final ModelValidator modelValidator;
+    private final Event<TagCreatedEvent> tagCreatedEvent;
+    private final Event<ArticleChangedEvent> articleChangedEvent;
+    private final Event<ArticleTextChangedEvent> articleTextChangedEvent;
+    private final Event<TagUsageChangedEvent> tagUsageChangedEvent;
+    private final int chunkSize;
+
+    public ArticleImportService(
+            ArticleImportRepository articleImportRepository,
+            SlugProvider slugProvider,
+            TagBuilder tagBuilder,
+            ModelValidator modelValidator,
+            Event<TagCreatedEvent> tagCreatedEvent,
+            Event<ArticleChangedEvent> articleChangedEvent,
+            Event<ArticleTextChangedEvent> articleTextChangedEvent,
+            Event<TagUsageChangedEvent> tagUsageChangedEvent,
+            @ConfigProperty(name = "articles.import.chunk-size") int chunkSize) {
+        this.articleImportRepository = articleImportRepository;
+        this.slugProvider = slugProvider;
+        this.tagBuilder = tagBuilder;
+        this.modelValidator = modelValidator;
+        this.tagCreatedEvent = tagCreatedEvent;
+        this.articleChangedEvent = articleChangedEvent;
+        this.articleTextChangedEvent = articleTextChangedEvent;
+        this.tagUsageChangedEvent = tagUsageChangedEvent;
+        this.chunkSize = chunkSize;
+    }
+
+    public ArticleImportResult importArticles(String importId, Stream<ArticleImportInput> inputs) {
+        final var startedAt = System.nanoTime();
+        final var checkpoint = articleImportRepository.findCheckpoint(importId);
+        final var articleImport = new ArticleImport(importId, checkpoint);
+        inputs.skip(checkpoint).forEach(articleImport::add);
+        articleImport.flush();
+        return new ArticleImportResult(
+                importId,
+                checkpoint,
+                articleImport.imported,
+                articleImport.rejected,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private class ArticleImport {
+
+        private final String importId;
+        private final Map<String, UUID> authorIds = articleImportRepository.findAuthorIds();
+        private final Map<String, UUID> tagIds = articleImportRepository.findTagIds();
+        private final Map<UUID, String> tagNames = new HashMap<>();
+        private final Set<String> slugKeys = new HashSet<>();
+        private final List<ImportedArticle> articles = new ArrayList<>(chunkSize);
+        private final List<Tag> tags = new ArrayList<>();
+        private final List<ArticleChangedEvent> changes = new ArrayList<>(chunkSize);
+        private long checkpoint;
+        private long pending;
+        private long imported;
+        private long rejected;
+
+        private ArticleImport(String importId, long checkpoint) {
+            this.importId = importId;
+            this.checkpoint = checkpoint;
+        }
+
+        private void add(ArticleImportInput input) {
+            pending++;
+            importedArticle(input)
+                    .ifPresentOrElse(
+                            article -> {
+                                articles.add(article);
+                                changes.add(
+                                        new ArticleChangedEvent(
+                                                article.getId(),
+                                                input.getAuthor(),
+                                                input.getTagList() != null
+                                                        ? input.getTagList()
+                                                        : List.of(),
+                                                true));
+                            },
+                            () -> rejected++);
+            if (pending == chunkSize) {
+                flush();
+            }
+        }
+
+        private Optional<ImportedArticle> importedArticle(ArticleImportInput input) {
+            if (input == null || input.getAuthor() == null || input.getTitle() == null) {
+                return Optional.empty();
+            }
+            final var authorId = authorIds.get(LookupKeys.key(input.getAuthor()));
+            if (authorId == null) {
+                return Optional.empty();
+            }
+            final var createdAt =
+                    input.getCreatedAt() != null ? input.getCreatedAt() : LocalDateTime.now();
+            try {
+                return Optional.of(
+                        modelValidator.validate(
+                                new ImportedArticle(
+                                        UUID.randomUUID(),
+                                        slug(input.getTitle()),
+                                        input.getTitle(),
+                                        input.getDescription(),
+                                        input.getBody(),
+                                        createdAt,
+                                        authorId,
+                                        tagIds(input.getTagList()))));
+            } catch (ModelValidationException ex) {
+                return Optional.empty();
+            }
+        }
+
+        private String slug(String title) {
+            final var slug = slugProvider.slugify(title);
+            return slugKeys.add(LookupKeys.key(slug)) ? slug : uniqueSlug(slug);
+        }
+
+        private String uniqueSlug(String slug) {
+            final var uniqueSlug = slug + UUID.randomUUID().toString();
+            slugKeys.add(LookupKeys.key(uniqueSlug));
+            return uniqueSlug;
+        }
+
+        // Slugs are only unique within the chunk until they are checked against the table.
+        private void renameTakenSlugs() {
+            final var takenSlugKeys = articleImportRepository.findSlugKeys(slugKeys);
+            articles.stream()
+                    .filter(article -> takenSlugKeys.contains(LookupKeys.key(article.getSlug())))
+                    .forEach(article -> article.setSlug(uniqueSlug(article.getSlug())));
+        }
+
+        // Tags are only new to the dictionary read when the import started; one created since
+        // then by another writer is reused instead of inserted again.
+        private void reuseTakenTags() {
+            final var takenTagIds =
+                    articleImportRepository.findTagIds(
+                            tags.stream()
+                                    .map(tag -> LookupKeys.key(tag.getName()))
+                                    .collect(Collectors.toSet()));
+            if (takenTagIds.isEmpty()) {
+                return;
+            }
+            final var reusedTagIds = new HashMap<UUID, UUID>();
+            tags.removeIf(
+                    tag -> {
+                        final var nameKey = LookupKeys.key(tag.getName());
+                        final var takenTagId = takenTagIds.get(nameKey);
+                        if (takenTagId == null) {
+                            return false;
+                        }
+                        reusedTagIds.put(tag.getId(), takenTagId);
+                        tagIds.put(nameKey, takenTagId);
+                        tagNames.put(takenTagId, tagNames.remove(tag.getId()));
+                        return true;
+                    });
+            articles.forEach(
+                    article ->
+                            article.setTagIds(
+                                    article.getTagIds().stream()
+                                            .map(tagId -> reusedTagIds.getOrDefault(tagId, tagId))
+                                            .collect(Collectors.toList())));
+        }
+
+        private Map<UUID, Long> saveChunk() {
+            try {
+                return trySaveChunk();
+            } catch (SlugAlreadyExistsException | TagAlreadyExistsException ex) {
+                return trySaveChunk();
+            }
+        }
+
+        private Map<UUID, Long> trySaveChunk() {
+            renameTakenSlugs();
+            reuseTakenTags();
+            final var tagUsages = tagUsages();
+            articleImportRepository.saveChunk(
+                    importId, checkpoint + pending, articles, tags, tagUsages);
+            return tagUsages;
+        }
+
+        private List<UUID> tagIds(List<String> names) {
+            if (names == null) {
+                return Collections.emptyList();
+            }
+            final var articleTagIds = new LinkedHashSet<UUID>();
+            names.forEach(
+                    name -> {
+                        final var tagId =
+                                tagIds.computeIfAbsent(
+                                        LookupKeys.key(name),
+                                        ignored -> {
+                                            final var tag = tagBuilder.build(name);
+                                            tags.add(tag);
+                                            return tag.getId();
+                                        });
+                        tagNames.putIfAbsent(tagId, name);
+                        articleTagIds.add(tagId);
+                    });
+            return new ArrayList<>(articleTagIds);
+        }
+
+        private Map<UUID, Long> tagUsages() {
+            final var tagUsages = new HashMap<UUID, Long>();
+            articles.forEach(
+                    article ->
+                            article.getTagIds().forEach(tagId -> tagUsages.merge(tagId, 1L, Long::sum)));
+            return tagUsages;
+        }
+
+        private void flush() {
+            if (pending == 0) {
+                return;
+            }
+            final var tagUsages = saveChunk();
+            tags.forEach(tag -> tagCreatedEvent.fire(new TagCreatedEvent(tag)));
+            changes.forEach(articleChangedEvent::fire);
+            tagUsages.forEach(
+                    (tagId, delta) ->
+                            tagUsageChangedEvent.fire(
+                                    new TagUsageChangedEvent(tagId, tagNames.get(tagId), delta)));
+            articles.forEach(
+                    article ->
+                            articleTextChangedEvent.fire(
+                                    new ArticleTextChangedEvent(
+                                            article.getId(),
+                                            new ArticleSearchDocument(
+                                                    article.getId(),
+                                                    article.getTitle(),
+                                                    article.getDescription(),
+                                                    article.getBody()))));
+            checkpoint += pending;
+            imported += articles.size();
+            pending = 0;
+            articles.clear();
+            tags.clear();
+            changes.clear();
+            slugKeys.clear();
+        }
+    }
+}
@@ -3,11 +3,18 @@ package org.example.realworldapi.domain.service;
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.domain.exception.ArticleNotFoundException;
 import org.example.realworldapi.domain.model.article.*;
+import org.example.realworldapi.domain.model.tag.Tag;
 import org.example.realworldapi.domain.validator.ModelValidator;
 
+import javax.enterprise.event.Event;
 import javax.inject.Singleton;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -15,23 +22,48 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 @AllArgsConstructor
 public class ArticlesService {
 
+    // Deep pages keep every hit before them in the ranking heap, so the window is bounded.
+    private static final int MAX_SEARCH_WINDOW = 10000;
+
     private final ArticleRepository articleRepository;
     private final FavoriteRelationshipRepository favoriteRelationshipRepository;
+    private final TimelineRepository timelineRepository;
+    private final ArticleSearchIndex articleSearchIndex;
     private final UserService userService;
     private final SlugService slugService;
     private final TagService tagService;
     private final ArticleModelBuilder articleBuilder;
     private final TagRelationshipService tagRelationshipService;
     private final ModelValidator modelValidator;
+    private final Event<ArticleChangedEvent> articleChangedEvent;
+    private final Event<ArticleFavoritedEvent> articleFavoritedEvent;
+    private final Event<ArticleTextChangedEvent> articleTextChangedEvent;
 
-    public PageResult<Article> findMostRecentByFilter(ArticleFilter articleFilter) {
-        return articleRepository.findMostRecentArticlesByFilter(articleFilter);
+    public PageResult<ArticleView> findMostRecentByFilter(ArticleFilter articleFilter) {
+        return timelineRepository.findTimeline(articleFilter);
     }
 
-    public PageResult<Article> findByFilter(ArticleFilter articleFilter) {
+    public PageResult<ArticleView> findByFilter(ArticleFilter articleFilter) {
         return articleRepository.findArticlesByFilter(articleFilter);
     }
 
+    public PageResult<ArticleView> search(String query, int offset, int limit) {
+        final var firstResult = (int) Math.min((long) offset * limit, MAX_SEARCH_WINDOW);
+        final var hits =
+                articleSearchIndex.search(
+                        query, firstResult, Math.min(limit, MAX_SEARCH_WINDOW - firstResult));
+        final var articles =
+                articleRepository.findViewsByIds(hits.getResult()).stream()
+                        .collect(Collectors.toMap(ArticleView::getId, article -> article));
+        final var rankedArticles =
+                hits.getResult().stream()
+                        .map(articles::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+        return new PageResult<>(
+                rankedArticles, hits.getTotal(), hits.getCountMode(), hits.isHasMore());
+    }
+
     public Article create(NewArticleInput newArticleInput) {
         final var author = userService.findById(newArticleInput.getAuthorId());
         final var slug = slugService.createByTitle(newArticleInput.getTitle());
@@ -42,9 +74,14 @@ public class ArticlesService {
                         newArticleInput.getDescription(),
                         newArticleInput.getBody(),
                         author);
-        articleRepository.save(article);
+        slugService.writeWithUniqueSlug(article, articleRepository::save);
+        timelineRepository.fanOut(article);
         final var tags = tagService.findByNameCreateIfNotExists(newArticleInput.getTagList());
         tagRelationshipService.createTagRelationship(article, tags);
+        articleChangedEvent.fire(
+                new ArticleChangedEvent(article.getId(), author.getUsername(), tagNames(tags), true));
+        articleTextChangedEvent.fire(
+                new ArticleTextChangedEvent(article.getId(), searchDocument(article)));
         return article;
     }
 
@@ -66,7 +103,13 @@ public class ArticlesService {
                 article.setBody(updateArticleInput.getBody());
             }
             article.setUpdatedAt(LocalDateTime.now());
-            articleRepository.update(modelValidator.validate(article));
+            slugService.writeWithUniqueSlug(
+                    modelValidator.validate(article), articleRepository::update);
+            articleChangedEvent.fire(
+                    new ArticleChangedEvent(
+                            article.getId(), article.getAuthor().getUsername(), List.of(), false));
+            articleTextChangedEvent.fire(
+                    new ArticleTextChangedEvent(article.getId(), searchDocument(article)));
         }
         return article;
     }
@@ -79,21 +122,36 @@ public class ArticlesService {
 
     public void deleteBySlug(UUID authorId, String slug) {
         final var article = findByAuthorAndSlug(authorId, slug);
+        final var tags = tagService.findArticleTags(article);
+        tagRelationshipService.releaseTags(tags);
+        timelineRepository.deleteByArticle(article.getId());
         articleRepository.delete(article);
+        articleChangedEvent.fire(
+                new ArticleChangedEvent(
+                        article.getId(), article.getAuthor().getUsername(), tagNames(tags), true));
+        articleTextChangedEvent.fire(new ArticleTextChangedEvent(article.getId(), null));
     }
 
     public FavoriteRelationship favorite(String articleSlug, UUID currentUserId) {
         final var article = findBySlug(articleSlug);
         final var favoriteRelationshipOptional =
                 favoriteRelationshipRepository.findByArticleIdAndUserId(article.getId(), currentUserId);
-        return favoriteRelationshipOptional.orElse(createFavoriteRelationship(currentUserId, article));
+        return favoriteRelationshipOptional.orElseGet(
+                () -> createFavoriteRelationship(currentUserId, article));
     }
 
     public void unfavorite(String articleSlug, UUID currentUserId) {
         final var article = findBySlug(articleSlug);
         final var favoriteRelationshipOptional =
                 favoriteRelationshipRepository.findByArticleIdAndUserId(article.getId(), currentUserId);
-        favoriteRelationshipOptional.ifPresent(favoriteRelationshipRepository::delete);
+        favoriteRelationshipOptional.ifPresent(
+                favoriteRelationship -> {
+                    favoriteRelationshipRepository.delete(favoriteRelationship);
+                    articleRepository.updateFavoritesCount(article.getId(), -1);
+                    articleFavoritedEvent.fire(
+                            new ArticleFavoritedEvent(
+                                    article.getId(), favoriteRelationship.getUser().getUsername()));
+                });
     }
 
     public Article findById(UUID id) {
@@ -101,14 +159,25 @@ public class ArticlesService {
     }
 
     public long favoritesCount(UUID articleId) {
-        final var article = findById(articleId);
-        return favoriteRelationshipRepository.favoritesCount(article);
+        return favoritesCount(Set.of(articleId)).getOrDefault(articleId, 0L);
+    }
+
+    public Map<UUID, Long> favoritesCount(Set<UUID> articleIds) {
+        return articleRepository.favoritesCount(articleIds);
+    }
+
+    public int reconcileFavoritesCount() {
+        return articleRepository.reconcileFavoritesCount();
     }
 
     public boolean isArticleFavorited(Article article, UUID currentUserId) {
         return favoriteRelationshipRepository.isFavorited(article, currentUserId);
     }
 
+    public Set<UUID> findFavoritedArticleIds(Set<UUID> articleIds, UUID currentUserId) {
+        return favoriteRelationshipRepository.findFavoritedArticleIds(articleIds, currentUserId);
+    }
+
     private boolean atLeastOneFieldIsNotBlank(UpdateArticleInput updateArticleInput) {
         return isNotBlank(updateArticleInput.getTitle())
                 || isNotBlank(updateArticleInput.getDescription())
@@ -119,6 +188,17 @@ public class ArticlesService {
         final var user = userService.findById(currentUserId);
         final var favoriteRelationship = new FavoriteRelationship(user, article);
         favoriteRelationshipRepository.save(favoriteRelationship);
+        articleRepository.updateFavoritesCount(article.getId(), 1);
+        articleFavoritedEvent.fire(new ArticleFavoritedEvent(article.getId(), user.getUsername()));
         return favoriteRelationship;
     }
+
+    private ArticleSearchDocument searchDocument(Article article) {
+        return new ArticleSearchDocument(
+                article.getId(), article.getTitle(), article.getDescription(), article.getBody());
+    }
+
+    private List<String> tagNames(List<Tag> tags) {
+        return tags.stream().map(Tag::getName).collect(Collectors.toList());
+    }
 }
@@ -2,10 +2,10 @@ package org.example.realworldapi.domain.service;
 
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.domain.exception.CommentNotFoundException;
+import org.example.realworldapi.domain.model.article.PageResult;
 import org.example.realworldapi.domain.model.comment.*;
 
 import javax.inject.Singleton;
-import java.util.List;
 import java.util.UUID;
 
 @Singleton
@@ -38,8 +38,10 @@ public class CommentService {
                 .orElseThrow(CommentNotFoundException::new);
     }
 
-    public List<Comment> findByArticleSlug(String slug) {
+    public PageResult<CommentView> findByArticleSlug(
+            String slug, UUID loggedUserId, CommentCursor cursor, int limit) {
         final var article = articlesService.findBySlug(slug);
-        return commentRepository.findCommentsByArticle(article);
+        return commentRepository.findCommentViewsByArticle(
+                article.getId(), loggedUserId, cursor, limit);
     }
 }
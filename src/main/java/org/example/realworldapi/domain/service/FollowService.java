@@ -1,10 +1,15 @@
 package org.example.realworldapi.domain.service;
 
 import lombok.AllArgsConstructor;
+import org.example.realworldapi.domain.model.article.TimelineRepository;
 import org.example.realworldapi.domain.model.user.FollowRelationship;
 import org.example.realworldapi.domain.model.user.FollowRelationshipRepository;
+import org.example.realworldapi.domain.model.user.UserRepository;
+import org.example.realworldapi.domain.model.user.UserUnfollowedEvent;
 
+import javax.enterprise.event.Event;
 import javax.inject.Singleton;
+import java.util.Set;
 import java.util.UUID;
 
 @Singleton
@@ -12,13 +17,18 @@ import java.util.UUID;
 public class FollowService {
 
     private final UserService userService;
+    private final UserRepository userRepository;
     private final FollowRelationshipRepository followRelationshipRepository;
+    private final TimelineRepository timelineRepository;
+    private final Event<UserUnfollowedEvent> userUnfollowedEvent;
 
     public FollowRelationship followUserByUsername(UUID loggedUserId, String username) {
         final var loggedUser = userService.findById(loggedUserId);
         final var userToFollow = userService.findByUsername(username);
         final var followingRelationship = new FollowRelationship(loggedUser, userToFollow);
         followRelationshipRepository.save(followingRelationship);
+        userRepository.updateFollowersCount(userToFollow.getId(), 1);
+        timelineRepository.backfill(loggedUser.getId(), userToFollow.getId());
         return followingRelationship;
     }
 
@@ -28,9 +38,16 @@ public class FollowService {
         final var followingRelationship =
                 followRelationshipRepository.findByUsers(loggedUser, userToUnfollow).orElseThrow();
         followRelationshipRepository.remove(followingRelationship);
+        userRepository.updateFollowersCount(userToUnfollow.getId(), -1);
+        timelineRepository.prune(loggedUser.getId(), userToUnfollow.getId());
+        userUnfollowedEvent.fire(new UserUnfollowedEvent(loggedUser.getId(), userToUnfollow.getId()));
     }
 
     public boolean isFollowingUser(UUID currentUserId, UUID followedUserId) {
         return followRelationshipRepository.isFollowing(currentUserId, followedUserId);
     }
+
+    public Set<UUID> findFollowedUserIds(UUID currentUserId, Set<UUID> followedUserIds) {
+        return followRelationshipRepository.findFollowedUserIds(currentUserId, followedUserIds);
+    }
 }
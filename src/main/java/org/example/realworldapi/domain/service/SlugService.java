@@ -1,24 +1,30 @@
 package org.example.realworldapi.domain.service;
 
 import lombok.AllArgsConstructor;
-import org.example.realworldapi.domain.model.article.ArticleRepository;
+import org.example.realworldapi.domain.exception.SlugAlreadyExistsException;
+import org.example.realworldapi.domain.model.article.Article;
 import org.example.realworldapi.domain.model.provider.SlugProvider;
 
 import javax.inject.Singleton;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Singleton
 @AllArgsConstructor
 public class SlugService {
 
-    private final ArticleRepository articleRepository;
     private final SlugProvider slugProvider;
 
     public String createByTitle(String title) {
-        String slug = slugProvider.slugify(title);
-        if (articleRepository.existsBySlug(slug)) {
-            slug += UUID.randomUUID().toString();
+        return slugProvider.slugify(title);
+    }
+
+    public void writeWithUniqueSlug(Article article, Consumer<Article> write) {
+        try {
+            write.accept(article);
+        } catch (SlugAlreadyExistsException ex) {
+            article.setSlug(article.getSlug() + UUID.randomUUID().toString());
+            write.accept(article);
         }
-        return slug;
     }
 }
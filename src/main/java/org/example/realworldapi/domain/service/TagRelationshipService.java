@@ -5,22 +5,42 @@ import org.example.realworldapi.domain.model.article.Article;
 import org.example.realworldapi.domain.model.article.TagRelationship;
 import org.example.realworldapi.domain.model.article.TagRelationshipRepository;
 import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.tag.TagRepository;
+import org.example.realworldapi.domain.model.tag.TagUsageChangedEvent;
 
+import javax.enterprise.event.Event;
 import javax.inject.Singleton;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Singleton
 @AllArgsConstructor
 public class TagRelationshipService {
 
     private final TagRelationshipRepository tagRelationshipRepository;
+    private final TagRepository tagRepository;
+    private final Event<TagUsageChangedEvent> tagUsageChangedEvent;
 
     public void createTagRelationship(Article article, List<Tag> tags) {
-        tags.forEach(tag -> tagRelationshipRepository.save(new TagRelationship(article, tag)));
+        tagRelationshipRepository.saveAll(article, tags);
+        updateUsageCount(tags, 1);
     }
 
     public void save(Article article, Tag tag) {
         tagRelationshipRepository.save(new TagRelationship(article, tag));
+        updateUsageCount(List.of(tag), 1);
+    }
+
+    public void releaseTags(List<Tag> tags) {
+        updateUsageCount(tags, -1);
     }
-}
 
+    private void updateUsageCount(List<Tag> tags, long delta) {
+        tagRepository.updateUsageCount(
+                tags.stream().map(Tag::getId).collect(Collectors.toSet()), delta);
+        tags.forEach(
+                tag ->
+                        tagUsageChangedEvent.fire(
+                                new TagUsageChangedEvent(tag.getId(), tag.getName(), delta)));
+    }
+}
@@ -5,11 +5,19 @@ import org.example.realworldapi.domain.model.article.Article;
 import org.example.realworldapi.domain.model.article.TagRelationshipRepository;
 import org.example.realworldapi.domain.model.tag.Tag;
 import org.example.realworldapi.domain.model.tag.TagBuilder;
+import org.example.realworldapi.domain.model.tag.TagCreatedEvent;
 import org.example.realworldapi.domain.model.tag.TagRepository;
+import org.example.realworldapi.domain.model.tag.TagUsage;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
 
+import javax.enterprise.event.Event;
 import javax.inject.Singleton;
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -19,16 +27,26 @@ public class TagService {
     private final TagRepository tagRepository;
     private final TagRelationshipRepository tagRelationshipRepository;
     private final TagBuilder tagBuilder;
+    private final Event<TagCreatedEvent> tagCreatedEvent;
 
-    public List<Tag> findByNameCreateIfNotExists(java.util.List<String> names) {
+    public List<Tag> findByNameCreateIfNotExists(List<String> names) {
         final var tags = tagRepository.findByNames(names);
-        tags.addAll(createTags(nonexistent(tags, names)));
+        final var missing =
+                nonexistent(tags, names).stream().map(tagBuilder::build).collect(Collectors.toList());
+        final var created = tagRepository.saveAllIfAbsent(missing);
+        created.forEach(tag -> tagCreatedEvent.fire(new TagCreatedEvent(tag)));
+        if (created.size() < missing.size()) {
+            // Another transaction created some of the tags first; read them back with their ids.
+            return tagRepository.findByNames(names);
+        }
+        tags.addAll(created);
         return tags;
     }
 
     public Tag create(String name) {
         final var tag = tagBuilder.build(name);
         tagRepository.save(tag);
+        tagCreatedEvent.fire(new TagCreatedEvent(tag));
         return tag;
     }
 
@@ -36,19 +54,28 @@ public class TagService {
         return tagRelationshipRepository.findArticleTags(article);
     }
 
-    private List<Tag> createTags(List<String> names) {
-        final var tags = new LinkedList<Tag>();
-        names.forEach(name -> tags.add(create(name)));
-        return tags;
+    public Map<UUID, List<Tag>> findArticlesTags(Set<UUID> articleIds) {
+        return tagRelationshipRepository.findArticlesTags(articleIds);
     }
 
-    private List<String> nonexistent(List<Tag> existing, List<String> allNames) {
-        return allNames.stream()
-                .filter(name -> existing.stream().noneMatch(tag -> tag.getName().equalsIgnoreCase(name)))
-                .collect(Collectors.toList());
+    private Collection<String> nonexistent(List<Tag> existing, List<String> allNames) {
+        final var existingKeys =
+                existing.stream().map(tag -> LookupKeys.key(tag.getName())).collect(Collectors.toSet());
+        final var nonexistent = new LinkedHashMap<String, String>();
+        allNames.forEach(
+                name -> {
+                    if (!existingKeys.contains(LookupKeys.key(name))) {
+                        nonexistent.putIfAbsent(LookupKeys.key(name), name);
+                    }
+                });
+        return nonexistent.values();
     }
 
     public List<Tag> find() {
         return tagRepository.findAllTags();
     }
+
+    public List<TagUsage> findUsages() {
+        return tagRepository.findUsages();
+    }
 }
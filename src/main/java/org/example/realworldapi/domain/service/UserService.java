@@ -9,6 +9,7 @@ import org.example.realworldapi.domain.model.provider.HashProvider;
 import org.example.realworldapi.domain.model.user.*;
 import org.example.realworldapi.domain.validator.ModelValidator;
 
+import javax.enterprise.event.Event;
 import javax.inject.Singleton;
 import java.util.UUID;
 
@@ -20,6 +21,7 @@ public class UserService {
     private final ModelValidator modelValidator;
     private final UserModelBuilder userBuilder;
     private final HashProvider hashProvider;
+    private final Event<UserUpdatedEvent> userUpdatedEvent;
 
     public User findById(UUID id) {
         return userRepository.findUserById(id).orElseThrow(UserNotFoundException::new);
@@ -34,6 +36,7 @@ public class UserService {
         checkValidations(updateUserInput, updateUserInput.getId());
         updateFields(user, updateUserInput);
         userRepository.update(modelValidator.validate(user));
+        userUpdatedEvent.fire(new UserUpdatedEvent(user.getId()));
         return user;
     }
 
@@ -58,6 +61,10 @@ public class UserService {
         if (!isPasswordValid(loginUserInput.getPassword(), user.getPassword())) {
             throw new InvalidPasswordException();
         }
+        if (hashProvider.needsRehash(user.getPassword())) {
+            user.setPassword(hashProvider.hashPassword(loginUserInput.getPassword()));
+            userRepository.updatePassword(user.getId(), user.getPassword());
+        }
         return user;
     }
 
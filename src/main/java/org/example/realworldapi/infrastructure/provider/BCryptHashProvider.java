@@ -1,20 +1,111 @@
 package org.example.realworldapi.infrastructure.provider;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.example.realworldapi.domain.model.provider.HashProvider;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
 import org.mindrot.jbcrypt.BCrypt;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 @ApplicationScoped
 public class BCryptHashProvider implements HashProvider {
 
+  private static final String EXECUTOR_NAME = "bcrypt";
+  private static final Pattern HASH_FORMAT = Pattern.compile("^\\$2a?\\$(\\d{2})\\$.{53}$");
+
+  private final int logRounds;
+  private final ThreadPoolExecutor executor;
+  private final Timer hashTimer;
+  private final Timer checkTimer;
+
+  public BCryptHashProvider(
+      @ConfigProperty(name = "bcrypt.log-rounds") int logRounds,
+      @ConfigProperty(name = "bcrypt.queue-capacity") int queueCapacity,
+      MeterRegistry meterRegistry) {
+    final var poolSize = Runtime.getRuntime().availableProcessors();
+    this.logRounds = logRounds;
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.hashTimer = timer(meterRegistry, "hash");
+    this.checkTimer = timer(meterRegistry, "check");
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+  }
+
   @Override
   public String hashPassword(String password) {
-    return BCrypt.hashpw(password, BCrypt.gensalt());
+    return execute(hashTimer, () -> BCrypt.hashpw(password, BCrypt.gensalt(logRounds)));
   }
 
   @Override
   public boolean checkPassword(String plaintext, String hashed) {
-    return BCrypt.checkpw(plaintext, hashed);
+    return execute(checkTimer, () -> isHash(hashed) && BCrypt.checkpw(plaintext, hashed));
+  }
+
+  // A hash whose cost cannot be read is treated as outdated, so the next login replaces it.
+  @Override
+  public boolean needsRehash(String hashed) {
+    final var matcher = HASH_FORMAT.matcher(hashed);
+    return !matcher.matches() || Integer.parseInt(matcher.group(1)) != logRounds;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T execute(Timer timer, Supplier<T> task) {
+    final Future<T> future;
+    try {
+      future = executor.submit(() -> timer.record(task));
+    } catch (RejectedExecutionException ex) {
+      throw new ServiceUnavailableException();
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new ServiceUnavailableException();
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  private static boolean isHash(String hashed) {
+    return hashed != null && HASH_FORMAT.matcher(hashed).matches();
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String operation) {
+    return Timer.builder("bcrypt.duration")
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static ThreadFactory threadFactory() {
+    final var threadNumber = new AtomicInteger();
+    return runnable -> {
+      final var thread = new Thread(runnable, EXECUTOR_NAME + "-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
   }
 }
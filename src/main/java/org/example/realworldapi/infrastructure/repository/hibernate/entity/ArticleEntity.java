@@ -1,11 +1,14 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.entity;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.example.realworldapi.domain.model.article.Article;
-import org.hibernate.annotations.CreationTimestamp;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -19,17 +22,37 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "ARTICLES")
+@Cacheable
+@NaturalIdCache
+@Table(
+    name = "ARTICLES",
+    indexes = @Index(name = "articles_slug_key_idx", columnList = "slug_key", unique = true))
 public class ArticleEntity {
 
   @Id private UUID id;
+
+  // Articles are inserted and their slugs changed through JDBC statements that skip a taken slug,
+  // so a slug conflict does not mark the transaction rollback-only.
+  @Column(updatable = false)
   private String slug;
+
+  @NaturalId(mutable = true)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "slug_key", nullable = false, updatable = false)
+  private String slugKey;
+
   private String title;
   private String description;
   private String body;
-  @CreationTimestamp private LocalDateTime createdAt;
+
+  @Column(updatable = false)
+  private LocalDateTime createdAt;
+
   @UpdateTimestamp private LocalDateTime updatedAt;
 
+  @Column(name = "favorites_count", updatable = false)
+  private long favoritesCount;
+
   @ManyToOne
   @JoinColumn(name = "author_id", referencedColumnName = "id", nullable = false)
   private UserEntity author;
@@ -58,6 +81,12 @@ public class ArticleEntity {
     this.updatedAt = article.getUpdatedAt();
   }
 
+  @PrePersist
+  @PreUpdate
+  void updateLookupKeys() {
+    this.slugKey = LookupKeys.key(slug);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -15,7 +15,10 @@ import java.util.UUID;
 @Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "COMMENTS")
+@Table(
+    name = "COMMENTS",
+    indexes =
+        @Index(name = "comments_article_created_at_idx", columnList = "article_id, createdAt, id"))
 public class CommentEntity {
 
   @Id private UUID id;
@@ -0,0 +1,31 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(name = "IMPORT_CHECKPOINTS")
+public class ImportCheckpointEntity {
+
+  @Id
+  @Column(name = "import_id")
+  private String importId;
+
+  private long lines;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  public ImportCheckpointEntity(String importId) {
+    this.importId = importId;
+  }
+}
@@ -1,9 +1,13 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.entity;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.List;
@@ -12,14 +16,26 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@NaturalIdCache
 @NoArgsConstructor
-@Table(name = "TAGS")
+@Table(
+    name = "TAGS",
+    indexes = @Index(name = "tags_name_key_idx", columnList = "name_key", unique = true))
 public class TagEntity {
 
   @Id private UUID id;
 
   private String name;
 
+  @NaturalId
+  @Setter(AccessLevel.NONE)
+  @Column(name = "name_key", nullable = false)
+  private String nameKey;
+
+  @Column(name = "usage_count", updatable = false)
+  private long usageCount;
+
   @OneToMany(fetch = FetchType.LAZY, mappedBy = "tag")
   private List<TagRelationshipEntity> articlesTags;
 
@@ -27,4 +43,10 @@ public class TagEntity {
     this.id = tag.getId();
     this.name = tag.getName();
   }
+
+  @PrePersist
+  @PreUpdate
+  void updateLookupKeys() {
+    this.nameKey = LookupKeys.key(name);
+  }
 }
@@ -0,0 +1,39 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "TIMELINE",
+    indexes =
+        @Index(name = "timeline_user_created_at_idx", columnList = "user_id, created_at, article_id"))
+public class TimelineEntity {
+  @EmbeddedId private TimelineEntityKey primaryKey;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+
+    if (o == null || getClass() != o.getClass()) return false;
+
+    TimelineEntity that = (TimelineEntity) o;
+    return Objects.equals(primaryKey, that.primaryKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(primaryKey);
+  }
+}
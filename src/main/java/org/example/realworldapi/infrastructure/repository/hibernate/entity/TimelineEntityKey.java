@@ -0,0 +1,37 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Embeddable;
+import javax.persistence.ManyToOne;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class TimelineEntityKey implements Serializable {
+
+  @ManyToOne private UserEntity user;
+  @ManyToOne private ArticleEntity article;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+
+    if (o == null || getClass() != o.getClass()) return false;
+
+    TimelineEntityKey that = (TimelineEntityKey) o;
+    return Objects.equals(user, that.user) && Objects.equals(article, that.article);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(user, article);
+  }
+}
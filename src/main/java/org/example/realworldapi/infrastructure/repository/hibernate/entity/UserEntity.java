@@ -1,9 +1,13 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.entity;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.example.realworldapi.domain.model.user.User;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.List;
@@ -13,7 +17,14 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "USERS")
+@Cacheable
+@NaturalIdCache
+@Table(
+    name = "USERS",
+    indexes = {
+      @Index(name = "users_username_key_idx", columnList = "username_key", unique = true),
+      @Index(name = "users_email_key_idx", columnList = "email_key", unique = true)
+    })
 public class UserEntity {
 
   @Id private UUID id;
@@ -24,6 +35,18 @@ public class UserEntity {
   private String password;
   private String email;
 
+  @NaturalId(mutable = true)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "username_key", nullable = false)
+  private String usernameKey;
+
+  @Setter(AccessLevel.NONE)
+  @Column(name = "email_key", nullable = false)
+  private String emailKey;
+
+  @Column(name = "followers_count", updatable = false)
+  private long followersCount;
+
   @OneToMany(fetch = FetchType.LAZY, mappedBy = "author")
   private List<ArticleEntity> articles;
 
@@ -45,4 +68,11 @@ public class UserEntity {
     this.password = user.getPassword();
     this.email = user.getEmail();
   }
+
+  @PrePersist
+  @PreUpdate
+  void updateLookupKeys() {
+    this.usernameKey = LookupKeys.key(username);
+    this.emailKey = LookupKeys.key(email);
+  }
 }
@@ -1,15 +1,32 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.panache;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import org.example.realworldapi.domain.model.article.CountMode;
 import org.example.realworldapi.domain.model.article.FavoriteRelationship;
+import org.example.realworldapi.domain.model.article.PageResult;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.*;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQL95Dialect;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class AbstractPanacheRepository<ENTITY, ID> implements PanacheRepositoryBase<ENTITY, ID> {
 
+  private static final String UNIQUE_VIOLATION = "23505";
+  private static final Map<String, String> STATEMENTS = new ConcurrentHashMap<>();
+
   protected UserEntity findUserEntityById(UUID id) {
     return getEntityManager().find(UserEntity.class, id);
   }
@@ -22,6 +39,133 @@ public class AbstractPanacheRepository<ENTITY, ID> implements PanacheRepositoryB
     return getEntityManager().find(ArticleEntity.class, id);
   }
 
+  protected <T> Optional<T> findByNaturalId(Class<T> entityClass, String field, String key) {
+    final var session = getEntityManager().unwrap(SessionImplementor.class);
+    final var persister = session.getFactory().getMetamodel().entityPersister(entityClass);
+    final var naturalIdCache = persister.getNaturalIdCacheAccessStrategy();
+    final var cacheKey = naturalIdCache.generateCacheKey(new Object[] {key}, persister, session);
+    if (naturalIdCache.get(session, cacheKey) != null) {
+      return session.bySimpleNaturalId(entityClass).loadOptional(key);
+    }
+    // A cold lookup stays a single query; loading the entity also caches its natural id.
+    return session
+        .createQuery(
+            "from " + entityClass.getSimpleName() + " where " + field + " = :key", entityClass)
+        .setParameter("key", key)
+        .uniqueResultOptional();
+  }
+
+  // Statements written through JDBC take their table and column names from the entity mapping,
+  // so they follow any change to it. A row whose unique key is already taken is skipped instead of
+  // failing, which keeps the transaction usable without a savepoint; the key is bound as the last
+  // parameter.
+  protected String insertIfAbsentStatement(
+      Class<?> entityClass, String keyProperty, String... properties) {
+    return STATEMENTS.computeIfAbsent(
+        "insert " + entityClass.getName() + " " + keyProperty + " " + String.join(",", properties),
+        ignored -> {
+          final var persister = entityPersister(entityClass);
+          final var columns = new ArrayList<>(List.of(persister.getIdentifierColumnNames()));
+          for (String property : properties) {
+            columns.addAll(List.of(persister.getPropertyColumnNames(property)));
+          }
+          return "insert into "
+              + persister.getTableName()
+              + " ("
+              + String.join(", ", columns)
+              + ") select "
+              + String.join(", ", Collections.nCopies(columns.size(), "?"))
+              + " where "
+              + absentKeyCondition(persister, keyProperty)
+              + onConflictDoNothing(persister);
+        });
+  }
+
+  protected String updateIfAbsentStatement(
+      Class<?> entityClass, String keyProperty, String... properties) {
+    return STATEMENTS.computeIfAbsent(
+        "update " + entityClass.getName() + " " + keyProperty + " " + String.join(",", properties),
+        ignored -> {
+          final var persister = entityPersister(entityClass);
+          final var assignments =
+              List.of(properties).stream()
+                  .flatMap(property -> List.of(persister.getPropertyColumnNames(property)).stream())
+                  .map(column -> column + " = ?")
+                  .collect(Collectors.joining(", "));
+          return "update "
+              + persister.getTableName()
+              + " set "
+              + assignments
+              + " where "
+              + persister.getIdentifierColumnNames()[0]
+              + " = ? and "
+              + absentKeyCondition(persister, keyProperty);
+        });
+  }
+
+  // Returns the update count of every row the work wrote; a row skipped because its key was taken
+  // counts zero. Databases that roll back only the failing statement can still report a key taken
+  // by a concurrent transaction as a violation, which is treated the same way.
+  protected int[] executeIfAbsent(String sql, StatementWork work) {
+    return getEntityManager()
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (final var statement = connection.prepareStatement(sql)) {
+                return work.execute(statement);
+              } catch (BatchUpdateException ex) {
+                if (!isUniqueViolation(ex)) {
+                  throw ex;
+                }
+                return ex.getUpdateCounts();
+              } catch (SQLException ex) {
+                if (!isUniqueViolation(ex)) {
+                  throw ex;
+                }
+                return new int[] {0};
+              }
+            });
+  }
+
+  protected boolean isWritten(int[] updateCounts, int row) {
+    return row < updateCounts.length && updateCounts[row] > 0;
+  }
+
+  // Batched statements report the violation on a chained exception.
+  private boolean isUniqueViolation(SQLException ex) {
+    for (var next = ex; next != null; next = next.getNextException()) {
+      if (UNIQUE_VIOLATION.equals(next.getSQLState())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String absentKeyCondition(AbstractEntityPersister persister, String keyProperty) {
+    return "not exists (select 1 from "
+        + persister.getTableName()
+        + " where "
+        + persister.getPropertyColumnNames(keyProperty)[0]
+        + " = ?)";
+  }
+
+  // The existence check cannot see rows of concurrent transactions, and PostgreSQL aborts the
+  // whole transaction on a violation, so there the conflict is resolved by the insert itself.
+  private String onConflictDoNothing(AbstractEntityPersister persister) {
+    return persister.getFactory().getJdbcServices().getDialect() instanceof PostgreSQL95Dialect
+        ? " on conflict do nothing"
+        : "";
+  }
+
+  private AbstractEntityPersister entityPersister(Class<?> entityClass) {
+    return (AbstractEntityPersister)
+        getEntityManager()
+            .unwrap(SessionImplementor.class)
+            .getFactory()
+            .getMetamodel()
+            .entityPersister(entityClass);
+  }
+
   protected CommentEntity findCommentEntityById(UUID id) {
     return getEntityManager().find(CommentEntity.class, id);
   }
@@ -39,11 +183,18 @@ public class AbstractPanacheRepository<ENTITY, ID> implements PanacheRepositoryB
     return getEntityManager().find(FavoriteRelationshipEntity.class, favoriteRelationshipEntityKey);
   }
 
+  protected <T> PageResult<T> pageResult(
+      List<T> fetched, int limit, Long total, CountMode countMode) {
+    final var hasMore = fetched.size() > limit;
+    final var result = hasMore ? fetched.subList(0, limit) : fetched;
+    return new PageResult<>(result, total, countMode, hasMore);
+  }
+
   protected boolean isNotEmpty(List<?> list) {
     return list != null && !list.isEmpty();
   }
 
-  protected List<String> toUpperCase(List<String> subjectList) {
-    return subjectList.stream().map(String::toUpperCase).collect(Collectors.toList());
+  protected interface StatementWork {
+    int[] execute(PreparedStatement statement) throws SQLException;
   }
 }
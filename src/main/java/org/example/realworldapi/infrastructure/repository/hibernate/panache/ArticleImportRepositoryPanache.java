@@ -0,0 +1,168 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.panache;
+
+import org.example.realworldapi.domain.exception.SlugAlreadyExistsException;
+import org.example.realworldapi.domain.exception.TagAlreadyExistsException;
+import org.example.realworldapi.domain.model.article.ArticleImportRepository;
+import org.example.realworldapi.domain.model.article.ImportedArticle;
+import org.example.realworldapi.domain.model.article.TimelineRepository;
+import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.tag.TagRepository;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.ArticleEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.ImportCheckpointEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
+import org.hibernate.Session;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.transaction.Transactional;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@RepositoryMetrics
+public class ArticleImportRepositoryPanache
+    extends AbstractPanacheRepository<ImportCheckpointEntity, String>
+    implements ArticleImportRepository {
+
+  private static final String INSERT_TAG_RELATIONSHIP =
+      "insert into TAG_RELATIONSHIP (article_id, tag_id) values (?, ?)";
+  private static final String UPDATE_TAG_USAGE_COUNT =
+      "update TAGS set usage_count = usage_count + ? where id = ?";
+
+  private final TimelineRepository timelineRepository;
+  private final TagRepository tagRepository;
+
+  public ArticleImportRepositoryPanache(
+      TimelineRepository timelineRepository, TagRepository tagRepository) {
+    this.timelineRepository = timelineRepository;
+    this.tagRepository = tagRepository;
+  }
+
+  @Override
+  public long findCheckpoint(String importId) {
+    return findByIdOptional(importId).map(ImportCheckpointEntity::getLines).orElse(0L);
+  }
+
+  @Override
+  public Map<String, UUID> findAuthorIds() {
+    return keyedIds("select users.usernameKey, users.id from UserEntity as users");
+  }
+
+  @Override
+  public Map<String, UUID> findTagIds() {
+    return keyedIds("select tags.nameKey, tags.id from TagEntity as tags");
+  }
+
+  @Override
+  public Map<String, UUID> findTagIds(Set<String> nameKeys) {
+    if (nameKeys.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final var keyedIds = new HashMap<String, UUID>();
+    getEntityManager()
+        .createQuery(
+            "select tags.nameKey, tags.id from TagEntity as tags where tags.nameKey in (:nameKeys)",
+            Object[].class)
+        .setParameter("nameKeys", nameKeys)
+        .getResultList()
+        .forEach(row -> keyedIds.put((String) row[0], (UUID) row[1]));
+    return keyedIds;
+  }
+
+  @Override
+  public Set<String> findSlugKeys(Set<String> slugKeys) {
+    if (slugKeys.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(
+        getEntityManager()
+            .createQuery(
+                "select articles.slugKey from ArticleEntity as articles where articles.slugKey in (:slugKeys)",
+                String.class)
+            .setParameter("slugKeys", slugKeys)
+            .getResultList());
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public void saveChunk(
+      String importId,
+      long checkpoint,
+      List<ImportedArticle> articles,
+      List<Tag> tags,
+      Map<UUID, Long> tagUsages) {
+    // The new tags were checked against the table before the chunk was written, so a skipped tag
+    // means a concurrent writer created it in the meantime and the chunk has to be rebound to it.
+    if (tagRepository.saveAllIfAbsent(tags).size() < tags.size()) {
+      throw new TagAlreadyExistsException();
+    }
+    // The slugs were checked against the table before the chunk was written, so a skipped article
+    // means a concurrent writer took its slug in the meantime.
+    final var updateCounts =
+        executeIfAbsent(
+            insertIfAbsentStatement(
+                ArticleEntity.class, "slugKey", ArticleRepositoryPanache.INSERT_PROPERTIES),
+            statement -> {
+              for (ImportedArticle article : articles) {
+                final var createdAt = Timestamp.valueOf(article.getCreatedAt());
+                final var slugKey = LookupKeys.key(article.getSlug());
+                statement.setObject(1, article.getId());
+                statement.setString(2, article.getSlug());
+                statement.setString(3, slugKey);
+                statement.setString(4, article.getTitle());
+                statement.setString(5, article.getDescription());
+                statement.setString(6, article.getBody());
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.setLong(9, 0);
+                statement.setObject(10, article.getAuthorId());
+                statement.setString(11, slugKey);
+                statement.addBatch();
+              }
+              return statement.executeBatch();
+            });
+    for (int row = 0; row < articles.size(); row++) {
+      if (!isWritten(updateCounts, row)) {
+        throw new SlugAlreadyExistsException();
+      }
+    }
+    final var session = getEntityManager().unwrap(Session.class);
+    session.doWork(
+        connection -> {
+          try (final var statement = connection.prepareStatement(INSERT_TAG_RELATIONSHIP)) {
+            for (ImportedArticle article : articles) {
+              for (UUID tagId : article.getTagIds()) {
+                statement.setObject(1, article.getId());
+                statement.setObject(2, tagId);
+                statement.addBatch();
+              }
+            }
+            statement.executeBatch();
+          }
+          try (final var statement = connection.prepareStatement(UPDATE_TAG_USAGE_COUNT)) {
+            for (Map.Entry<UUID, Long> usage : tagUsages.entrySet()) {
+              statement.setLong(1, usage.getValue());
+              statement.setObject(2, usage.getKey());
+              statement.addBatch();
+            }
+            statement.executeBatch();
+          }
+        });
+    timelineRepository.fanOut(
+        articles.stream().map(ImportedArticle::getId).collect(Collectors.toList()));
+    final var importCheckpoint =
+        findByIdOptional(importId).orElseGet(() -> new ImportCheckpointEntity(importId));
+    importCheckpoint.setLines(checkpoint);
+    persist(importCheckpoint);
+  }
+
+  private Map<String, UUID> keyedIds(String query) {
+    final var keyedIds = new HashMap<String, UUID>();
+    getEntityManager()
+        .createQuery(query, Object[].class)
+        .getResultList()
+        .forEach(row -> keyedIds.put((String) row[0], (UUID) row[1]));
+    return keyedIds;
+  }
+}
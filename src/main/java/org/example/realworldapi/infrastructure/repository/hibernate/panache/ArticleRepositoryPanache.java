@@ -1,37 +1,95 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.panache;
 
-import io.quarkus.panache.common.Page;
-import io.quarkus.panache.common.Parameters;
-import io.quarkus.panache.common.Sort;
-import lombok.AllArgsConstructor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.exception.SlugAlreadyExistsException;
 import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.ArticleCursor;
 import org.example.realworldapi.domain.model.article.ArticleFilter;
 import org.example.realworldapi.domain.model.article.ArticleRepository;
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+import org.example.realworldapi.domain.model.article.ArticleView;
+import org.example.realworldapi.domain.model.article.CountMode;
 import org.example.realworldapi.domain.model.article.PageResult;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.ArticleEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.PageCountCache;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
 import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.SimpleQueryBuilder;
+import org.hibernate.Cache;
+import org.hibernate.query.NativeQuery;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
-@AllArgsConstructor
+@RepositoryMetrics
 public class ArticleRepositoryPanache extends AbstractPanacheRepository<ArticleEntity, UUID>
     implements ArticleRepository {
 
+  private static final Map<String, String> ESTIMATED_COUNT_QUERIES =
+      Map.of(
+          "postgresql",
+          "select reltuples from pg_class where relname = 'articles'",
+          "h2",
+          "select row_count_estimate from information_schema.tables where table_name = 'ARTICLES'");
+
+  static final String[] INSERT_PROPERTIES = {
+    "slug",
+    "slugKey",
+    "title",
+    "description",
+    "body",
+    "createdAt",
+    "updatedAt",
+    "favoritesCount",
+    "author"
+  };
+  private static final String[] SLUG_PROPERTIES = {"slug", "slugKey"};
+  private static final String FAVORITES_COUNT_SPACE = "ARTICLES.favorites_count";
+  static final String SELECT_ARTICLE_VIEW =
+      "select new org.example.realworldapi.domain.model.article.ArticleView(articles.id, articles.slug, articles.title, articles.description, articles.body, articles.createdAt, articles.updatedAt, author.id, author.username, author.bio, author.image)";
+
   private final EntityUtils entityUtils;
+  private final PageCountCache pageCountCache;
+  private final EntityManagerFactory entityManagerFactory;
+  private final String estimatedCountQuery;
 
-  @Override
-  public boolean existsBySlug(String slug) {
-    return count("upper(slug)", slug.toUpperCase().trim()) > 0;
+  public ArticleRepositoryPanache(
+      EntityUtils entityUtils,
+      PageCountCache pageCountCache,
+      EntityManagerFactory entityManagerFactory,
+      @ConfigProperty(name = "quarkus.datasource.db-kind") String dbKind) {
+    this.entityUtils = entityUtils;
+    this.pageCountCache = pageCountCache;
+    this.entityManagerFactory = entityManagerFactory;
+    this.estimatedCountQuery = ESTIMATED_COUNT_QUERIES.get(dbKind);
   }
 
   @Override
   public void save(Article article) {
-    final var author = findUserEntityById(article.getAuthor().getId());
-    persistAndFlush(new ArticleEntity(article, author));
+    final var createdAt = Timestamp.valueOf(article.getCreatedAt());
+    final var slugKey = LookupKeys.key(article.getSlug());
+    writeSlug(
+        insertIfAbsentStatement(ArticleEntity.class, "slugKey", INSERT_PROPERTIES),
+        statement -> {
+          statement.setObject(1, article.getId());
+          statement.setString(2, article.getSlug());
+          statement.setString(3, slugKey);
+          statement.setString(4, article.getTitle());
+          statement.setString(5, article.getDescription());
+          statement.setString(6, article.getBody());
+          statement.setTimestamp(7, createdAt);
+          statement.setTimestamp(8, createdAt);
+          statement.setLong(9, 0);
+          statement.setObject(10, article.getAuthor().getId());
+          statement.setString(11, slugKey);
+          return new int[] {statement.executeUpdate()};
+        });
   }
 
   @Override
@@ -41,23 +99,34 @@ public class ArticleRepositoryPanache extends AbstractPanacheRepository<ArticleE
 
   @Override
   public Optional<Article> findBySlug(String slug) {
-    return find("upper(slug)", slug.toUpperCase().trim())
-        .firstResultOptional()
+    return findByNaturalId(ArticleEntity.class, "slugKey", LookupKeys.key(slug))
         .map(entityUtils::article);
   }
 
   @Override
   public void update(Article article) {
     final var articleEntity = findArticleEntityById(article.getId());
+    // Slug columns are not updatable through the entity; a changed slug is written here, where a
+    // conflict can be recovered from.
+    if (!article.getSlug().equals(articleEntity.getSlug())) {
+      final var slugKey = LookupKeys.key(article.getSlug());
+      writeSlug(
+          updateIfAbsentStatement(ArticleEntity.class, "slugKey", SLUG_PROPERTIES),
+          statement -> {
+            statement.setString(1, article.getSlug());
+            statement.setString(2, slugKey);
+            statement.setObject(3, article.getId());
+            statement.setString(4, slugKey);
+            return new int[] {statement.executeUpdate()};
+          });
+    }
     articleEntity.update(article);
   }
 
   @Override
   public Optional<Article> findByAuthorAndSlug(UUID authorId, String slug) {
-    return find(
-            "author.id = :authorId and upper(slug) = :slug",
-            Parameters.with("authorId", authorId).and("slug", slug.toUpperCase().trim()))
-        .firstResultOptional()
+    return findByNaturalId(ArticleEntity.class, "slugKey", LookupKeys.key(slug))
+        .filter(articleEntity -> articleEntity.getAuthor().getId().equals(authorId))
         .map(entityUtils::article);
   }
 
@@ -67,42 +136,59 @@ public class ArticleRepositoryPanache extends AbstractPanacheRepository<ArticleE
   }
 
   @Override
-  public PageResult<Article> findMostRecentArticlesByFilter(ArticleFilter articleFilter) {
-    final var articlesEntity =
-        find(
-                "select articles from ArticleEntity as articles inner join articles.author as author inner join author.followedBy as followedBy where followedBy.user.id = :loggedUserId",
-                Sort.descending("createdAt").and("updatedAt").descending(),
-                Parameters.with("loggedUserId", articleFilter.getLoggedUserId()))
-            .page(Page.of(articleFilter.getOffset(), articleFilter.getLimit()))
-            .list();
-    final var articlesResult =
-        articlesEntity.stream().map(entityUtils::article).collect(Collectors.toList());
-    final var total = count(articleFilter.getLoggedUserId());
-    return new PageResult<>(articlesResult, total);
-  }
-
-  @Override
-  public PageResult<Article> findArticlesByFilter(ArticleFilter filter) {
+  public PageResult<ArticleView> findArticlesByFilter(ArticleFilter filter) {
     Map<String, Object> params = new LinkedHashMap<>();
     SimpleQueryBuilder findArticlesQueryBuilder = new SimpleQueryBuilder();
-    findArticlesQueryBuilder.addQueryStatement("select articles from ArticleEntity as articles");
+    findArticlesQueryBuilder.addQueryStatement(
+        SELECT_ARTICLE_VIEW
+            + " from ArticleEntity as articles inner join articles.author as author");
     configFilterFindArticlesQueryBuilder(
         findArticlesQueryBuilder,
         filter.getTags(),
         filter.getAuthors(),
         filter.getFavorited(),
         params);
-    final var articlesEntity =
-        find(
-                findArticlesQueryBuilder.toQueryString(),
-                Sort.descending("createdAt").and("updatedAt").descending(),
-                params)
-            .page(Page.of(filter.getOffset(), filter.getLimit()))
-            .list();
-    final var articlesResult =
-        articlesEntity.stream().map(entityUtils::article).collect(Collectors.toList());
-    final var total = count(filter.getTags(), filter.getAuthors(), filter.getFavorited());
-    return new PageResult<>(articlesResult, total);
+    configCursorFindArticlesQueryBuilder(findArticlesQueryBuilder, filter.getCursor(), params);
+    final var firstResult = filter.getCursor() != null ? 0 : filter.getOffset() * filter.getLimit();
+    final var query =
+        getEntityManager()
+            .createQuery(
+                findArticlesQueryBuilder.toQueryString()
+                    + " order by articles.createdAt desc, articles.id desc",
+                ArticleView.class);
+    params.forEach(query::setParameter);
+    final var articles =
+        query.setFirstResult(firstResult).setMaxResults(filter.getLimit() + 1).getResultList();
+    return articlesPageResult(articles, filter);
+  }
+
+  @Override
+  public List<ArticleView> findViewsByIds(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return getEntityManager()
+        .createQuery(
+            SELECT_ARTICLE_VIEW
+                + " from ArticleEntity as articles inner join articles.author as author where articles.id in (:ids)",
+            ArticleView.class)
+        .setParameter("ids", ids)
+        .getResultList();
+  }
+
+  @Override
+  public List<ArticleSearchDocument> findSearchDocuments(UUID afterId, int limit) {
+    final var query =
+        getEntityManager()
+            .createQuery(
+                "select new org.example.realworldapi.domain.model.article.ArticleSearchDocument(articles.id, articles.title, articles.description, articles.body) from ArticleEntity as articles"
+                    + (afterId != null ? " where articles.id > :afterId" : "")
+                    + " order by articles.id",
+                ArticleSearchDocument.class);
+    if (afterId != null) {
+      query.setParameter("afterId", afterId);
+    }
+    return query.setMaxResults(limit).getResultList();
   }
 
   @Override
@@ -115,10 +201,136 @@ public class ArticleRepositoryPanache extends AbstractPanacheRepository<ArticleE
     return count(countArticlesQueryBuilder.toQueryString(), params);
   }
 
-  public long count(UUID loggedUserId) {
-    return count(
-        "from ArticleEntity as articles inner join articles.author as author inner join author.followedBy as followedBy where followedBy.user.id = :loggedUserId",
-        Parameters.with("loggedUserId", loggedUserId));
+  @Override
+  public Map<UUID, Long> favoritesCount(Set<UUID> articleIds) {
+    final var favoritesCount = new HashMap<UUID, Long>();
+    if (articleIds.isEmpty()) {
+      return favoritesCount;
+    }
+    getEntityManager()
+        .createQuery(
+            "select articles.id, articles.favoritesCount from ArticleEntity as articles where articles.id in (:articleIds)",
+            Object[].class)
+        .setParameter("articleIds", articleIds)
+        .getResultList()
+        .forEach(row -> favoritesCount.put((UUID) row[0], (Long) row[1]));
+    return favoritesCount;
+  }
+
+  @Override
+  public void updateFavoritesCount(UUID articleId, long delta) {
+    // A bulk HQL update would invalidate the whole ArticleEntity region, so only the updated
+    // article is evicted.
+    getEntityManager()
+        .createNativeQuery(
+            "update ARTICLES set favorites_count = favorites_count + :delta where id = :articleId")
+        .unwrap(NativeQuery.class)
+        .addSynchronizedQuerySpace(FAVORITES_COUNT_SPACE)
+        .setParameter("delta", delta)
+        .setParameter("articleId", articleId)
+        .executeUpdate();
+    entityManagerFactory.getCache().unwrap(Cache.class).evict(ArticleEntity.class, articleId);
+  }
+
+  // Only drifted articles are rewritten and evicted, since a bulk HQL update would invalidate the
+  // whole ArticleEntity region.
+  @Override
+  @Transactional
+  public int reconcileFavoritesCount() {
+    final var driftedIds =
+        getEntityManager()
+            .createQuery(
+                "select articles.id from ArticleEntity as articles where articles.favoritesCount <> (select count(favorites) from FavoriteRelationshipEntity as favorites where favorites.primaryKey.article.id = articles.id)",
+                UUID.class)
+            .getResultList();
+    if (driftedIds.isEmpty()) {
+      return 0;
+    }
+    final var reconciled =
+        getEntityManager()
+            .createNativeQuery(
+                "update ARTICLES set favorites_count = (select count(*) from FAVORITE_RELATIONSHIP favorites where favorites.article_id = ARTICLES.id) where id in (:articleIds)")
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(FAVORITES_COUNT_SPACE)
+            .setParameter("articleIds", driftedIds)
+            .executeUpdate();
+    final var cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    driftedIds.forEach(articleId -> cache.evict(ArticleEntity.class, articleId));
+    return reconciled;
+  }
+
+  private void writeSlug(String sql, StatementWork work) {
+    if (!isWritten(executeIfAbsent(sql, work), 0)) {
+      throw new SlugAlreadyExistsException();
+    }
+  }
+
+  private void configCursorFindArticlesQueryBuilder(
+      SimpleQueryBuilder findArticlesQueryBuilder,
+      ArticleCursor cursor,
+      Map<String, Object> params) {
+    findArticlesQueryBuilder.updateWhereStatementConditional(
+        cursor != null,
+        "(articles.createdAt < :cursorCreatedAt or (articles.createdAt = :cursorCreatedAt and articles.id < :cursorId))",
+        () -> {
+          params.put("cursorCreatedAt", cursor.getCreatedAt());
+          params.put("cursorId", cursor.getId());
+        });
+  }
+
+  private PageResult<ArticleView> articlesPageResult(
+      List<ArticleView> articles, ArticleFilter filter) {
+    final var limit = filter.getLimit();
+    switch (filter.getCountMode()) {
+      case NONE:
+        return pageResult(articles, limit, null, CountMode.NONE);
+      case ESTIMATED:
+        final var estimatedCount = isFiltered(filter) ? OptionalLong.empty() : estimatedCount();
+        if (estimatedCount.isPresent()) {
+          return pageResult(articles, limit, estimatedCount.getAsLong(), CountMode.ESTIMATED);
+        }
+        return pageResult(articles, limit, cachedCount(filter), CountMode.CACHED);
+      case CACHED:
+        return pageResult(articles, limit, cachedCount(filter), CountMode.CACHED);
+      default:
+        return pageResult(articles, limit, exactCount(filter), CountMode.EXACT);
+    }
+  }
+
+  private long exactCount(ArticleFilter filter) {
+    return count(filter.getTags(), filter.getAuthors(), filter.getFavorited());
+  }
+
+  private long cachedCount(ArticleFilter filter) {
+    return pageCountCache.get(
+        List.of(
+            ArticleEntity.class,
+            normalize(filter.getTags()),
+            normalize(filter.getAuthors()),
+            normalize(filter.getFavorited())),
+        () -> exactCount(filter));
+  }
+
+  private OptionalLong estimatedCount() {
+    if (estimatedCountQuery == null) {
+      return OptionalLong.empty();
+    }
+    final var estimate =
+        ((Number) getEntityManager().createNativeQuery(estimatedCountQuery).getSingleResult())
+            .longValue();
+    return estimate >= 0 ? OptionalLong.of(estimate) : OptionalLong.empty();
+  }
+
+  private boolean isFiltered(ArticleFilter filter) {
+    return isNotEmpty(filter.getTags())
+        || isNotEmpty(filter.getAuthors())
+        || isNotEmpty(filter.getFavorited());
+  }
+
+  private List<String> normalize(List<String> values) {
+    return values == null
+        ? List.of()
+        : LookupKeys.keys(values).stream().sorted().collect(Collectors.toList());
   }
 
   private void configFilterFindArticlesQueryBuilder(
@@ -131,19 +343,19 @@ public class ArticleRepositoryPanache extends AbstractPanacheRepository<ArticleE
     findArticlesQueryBuilder.updateQueryStatementConditional(
         isNotEmpty(tags),
         "inner join articles.tags as tags inner join tags.primaryKey.tag as tag",
-        "upper(tag.name) in (:tags)",
-        () -> params.put("tags", toUpperCase(tags)));
+        "tag.nameKey in (:tags)",
+        () -> params.put("tags", LookupKeys.keys(tags)));
 
     findArticlesQueryBuilder.updateQueryStatementConditional(
         isNotEmpty(authors),
         "inner join articles.author as authors",
-        "upper(authors.username) in (:authors)",
-        () -> params.put("authors", toUpperCase(authors)));
+        "authors.usernameKey in (:authors)",
+        () -> params.put("authors", LookupKeys.keys(authors)));
 
     findArticlesQueryBuilder.updateQueryStatementConditional(
         isNotEmpty(favorited),
         "inner join articles.favorites as favorites inner join favorites.primaryKey.user as user",
-        "upper(user.username) in (:favorites)",
-        () -> params.put("favorites", toUpperCase(favorited)));
+        "user.usernameKey in (:favorites)",
+        () -> params.put("favorites", LookupKeys.keys(favorited)));
   }
 }
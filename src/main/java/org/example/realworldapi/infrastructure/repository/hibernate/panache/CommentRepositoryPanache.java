@@ -1,22 +1,26 @@
 package org.example.realworldapi.infrastructure.repository.hibernate.panache;
 
-import io.quarkus.panache.common.Parameters;
 import lombok.AllArgsConstructor;
-import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.PageResult;
 import org.example.realworldapi.domain.model.comment.Comment;
+import org.example.realworldapi.domain.model.comment.CommentCursor;
 import org.example.realworldapi.domain.model.comment.CommentRepository;
+import org.example.realworldapi.domain.model.comment.CommentView;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.CommentEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.SimpleQueryBuilder;
 
 import javax.enterprise.context.ApplicationScoped;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static io.quarkus.panache.common.Parameters.with;
+import static org.example.realworldapi.domain.model.comment.CommentRepository.UNLIMITED;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class CommentRepositoryPanache extends AbstractPanacheRepository<CommentEntity, UUID>
     implements CommentRepository {
@@ -46,9 +50,31 @@ public class CommentRepositoryPanache extends AbstractPanacheRepository<CommentE
   }
 
   @Override
-  public List<Comment> findCommentsByArticle(Article article) {
-    final var commentsEntity =
-        find("article.id = :articleId", Parameters.with("articleId", article.getId())).list();
-    return commentsEntity.stream().map(entityUtils::comment).collect(Collectors.toList());
+  public PageResult<CommentView> findCommentViewsByArticle(
+      UUID articleId, UUID loggedUserId, CommentCursor cursor, int limit) {
+    final var params = new HashMap<String, Object>();
+    params.put("articleId", articleId);
+    params.put("loggedUserId", loggedUserId);
+    final var queryBuilder = new SimpleQueryBuilder();
+    queryBuilder.addQueryStatement(
+        "select new org.example.realworldapi.domain.model.comment.CommentView(comments.id, comments.body, comments.createdAt, comments.updatedAt, author.id, author.username, author.bio, author.image, follow.primaryKey.user.id) from CommentEntity as comments inner join comments.author as author left join FollowRelationshipEntity as follow on follow.primaryKey.followed.id = author.id and follow.primaryKey.user.id = :loggedUserId");
+    queryBuilder.addWhereStatement("comments.article.id = :articleId");
+    queryBuilder.updateWhereStatementConditional(
+        cursor != null,
+        "(comments.createdAt > :cursorCreatedAt or (comments.createdAt = :cursorCreatedAt and comments.id > :cursorId))",
+        () -> {
+          params.put("cursorCreatedAt", cursor.getCreatedAt());
+          params.put("cursorId", cursor.getId());
+        });
+    final var query =
+        getEntityManager()
+            .createQuery(
+                queryBuilder.toQueryString() + " order by comments.createdAt, comments.id",
+                CommentView.class);
+    params.forEach(query::setParameter);
+    if (limit == UNLIMITED) {
+      return new PageResult<>(query.getResultList(), null, null, false);
+    }
+    return pageResult(query.setMaxResults(limit + 1).getResultList(), limit, null, null);
   }
 }
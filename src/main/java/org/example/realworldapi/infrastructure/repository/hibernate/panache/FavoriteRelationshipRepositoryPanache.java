@@ -7,14 +7,19 @@ import org.example.realworldapi.domain.model.article.FavoriteRelationshipReposit
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.FavoriteRelationshipEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.FavoriteRelationshipEntityKey;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
 
 import javax.enterprise.context.ApplicationScoped;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static io.quarkus.panache.common.Parameters.with;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class FavoriteRelationshipRepositoryPanache
     extends AbstractPanacheRepository<FavoriteRelationshipEntity, FavoriteRelationshipEntityKey>
@@ -31,8 +36,18 @@ public class FavoriteRelationshipRepositoryPanache
   }
 
   @Override
-  public long favoritesCount(Article article) {
-    return count("article.id", article.getId());
+  public Set<UUID> findFavoritedArticleIds(Set<UUID> articleIds, UUID currentUserId) {
+    if (articleIds.isEmpty()) {
+      return new HashSet<>();
+    }
+    return getEntityManager()
+        .createQuery(
+            "select favorites.primaryKey.article.id from FavoriteRelationshipEntity as favorites where favorites.primaryKey.user.id = :currentUserId and favorites.primaryKey.article.id in (:articleIds)",
+            UUID.class)
+        .setParameter("currentUserId", currentUserId)
+        .setParameter("articleIds", articleIds)
+        .getResultStream()
+        .collect(Collectors.toSet());
   }
 
   @Override
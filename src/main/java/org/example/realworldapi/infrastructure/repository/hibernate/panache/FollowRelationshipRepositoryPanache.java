@@ -9,12 +9,17 @@ import org.example.realworldapi.infrastructure.repository.hibernate.entity.Entit
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.FollowRelationshipEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.FollowRelationshipEntityKey;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
 
 import javax.enterprise.context.ApplicationScoped;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class FollowRelationshipRepositoryPanache
     extends AbstractPanacheRepository<FollowRelationshipEntity, FollowRelationshipEntityKey>
@@ -30,6 +35,21 @@ public class FollowRelationshipRepositoryPanache
         > 0;
   }
 
+  @Override
+  public Set<UUID> findFollowedUserIds(UUID currentUserId, Set<UUID> followedUserIds) {
+    if (followedUserIds.isEmpty()) {
+      return new HashSet<>();
+    }
+    return getEntityManager()
+        .createQuery(
+            "select follow.primaryKey.followed.id from FollowRelationshipEntity as follow where follow.primaryKey.user.id = :currentUserId and follow.primaryKey.followed.id in (:followedUserIds)",
+            UUID.class)
+        .setParameter("currentUserId", currentUserId)
+        .setParameter("followedUserIds", followedUserIds)
+        .getResultStream()
+        .collect(Collectors.toSet());
+  }
+
   @Override
   public void save(FollowRelationship followRelationship) {
     final var userEntity = findUserEntityById(followRelationship.getUser().getId());
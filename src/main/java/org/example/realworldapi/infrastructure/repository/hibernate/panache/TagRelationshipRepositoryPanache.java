@@ -6,15 +6,19 @@ import org.example.realworldapi.domain.model.article.Article;
 import org.example.realworldapi.domain.model.article.TagRelationship;
 import org.example.realworldapi.domain.model.article.TagRelationshipRepository;
 import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.ArticleEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.TagEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.TagRelationshipEntity;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.TagRelationshipEntityKey;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
 
 import javax.enterprise.context.ApplicationScoped;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class TagRelationshipRepositoryPanache
     extends AbstractPanacheRepository<TagRelationshipEntity, TagRelationshipEntityKey>
@@ -29,6 +33,18 @@ public class TagRelationshipRepositoryPanache
     persist(new TagRelationshipEntity(articleEntity, tagEntity));
   }
 
+  @Override
+  public void saveAll(Article article, List<Tag> tags) {
+    final var entityManager = getEntityManager();
+    final var articleEntity = entityManager.getReference(ArticleEntity.class, article.getId());
+    persist(
+        tags.stream()
+            .map(
+                tag ->
+                    new TagRelationshipEntity(
+                        articleEntity, entityManager.getReference(TagEntity.class, tag.getId()))));
+  }
+
   @Override
   public List<Tag> findArticleTags(Article article) {
     return find(
@@ -39,4 +55,24 @@ public class TagRelationshipRepositoryPanache
         .map(entityUtils::tag)
         .collect(Collectors.toList());
   }
+
+  @Override
+  public Map<UUID, List<Tag>> findArticlesTags(Set<UUID> articleIds) {
+    final var articlesTags = new HashMap<UUID, List<Tag>>();
+    if (articleIds.isEmpty()) {
+      return articlesTags;
+    }
+    getEntityManager()
+        .createQuery(
+            "select tagRelationship.primaryKey.article.id, tag from TagRelationshipEntity as tagRelationship inner join tagRelationship.primaryKey.tag as tag where tagRelationship.primaryKey.article.id in (:articleIds)",
+            Object[].class)
+        .setParameter("articleIds", articleIds)
+        .getResultList()
+        .forEach(
+            row ->
+                articlesTags
+                    .computeIfAbsent((UUID) row[0], articleId -> new LinkedList<>())
+                    .add(entityUtils.tag((TagEntity) row[1])));
+    return articlesTags;
+  }
 }
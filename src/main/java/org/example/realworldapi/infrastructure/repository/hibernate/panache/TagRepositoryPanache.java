@@ -3,32 +3,57 @@ package org.example.realworldapi.infrastructure.repository.hibernate.panache;
 import io.quarkus.panache.common.Parameters;
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.domain.model.tag.Tag;
+import org.example.realworldapi.domain.model.tag.TagCreatedEvent;
 import org.example.realworldapi.domain.model.tag.TagRepository;
+import org.example.realworldapi.domain.model.tag.TagUsage;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.TagEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
+import org.hibernate.Cache;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.query.NativeQuery;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManagerFactory;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class TagRepositoryPanache extends AbstractPanacheRepository<TagEntity, UUID>
     implements TagRepository {
 
+  public static final String ALL_TAGS_REGION = "all-tags";
+  private static final String USAGE_COUNT_SPACE = "TAGS.usage_count";
+  private static final String[] INSERT_PROPERTIES = {"name", "nameKey", "usageCount"};
+
   private final EntityUtils entityUtils;
+  private final EntityManagerFactory entityManagerFactory;
 
   @Override
   public List<Tag> findAllTags() {
-    return listAll().stream().map(entityUtils::tag).collect(Collectors.toList());
+    return findAll()
+        .withHint(QueryHints.CACHEABLE, true)
+        .withHint(QueryHints.CACHE_REGION, ALL_TAGS_REGION)
+        .list()
+        .stream()
+        .map(entityUtils::tag)
+        .collect(Collectors.toList());
   }
 
   @Override
   public Optional<Tag> findByName(String name) {
-    return find("upper(name)", name.toUpperCase().trim())
-        .firstResultOptional()
+    return findByNaturalId(TagEntity.class, "nameKey", LookupKeys.key(name))
         .map(entityUtils::tag);
   }
 
@@ -37,13 +62,78 @@ public class TagRepositoryPanache extends AbstractPanacheRepository<TagEntity, U
     persist(new TagEntity(tag));
   }
 
+  // New tags are written as one batch that skips names created meanwhile by another transaction,
+  // so the unique name_key index never fails the caller's transaction. The update counts tell which
+  // tags this batch created.
+  @Override
+  public List<Tag> saveAllIfAbsent(List<Tag> tags) {
+    if (tags.isEmpty()) {
+      return List.of();
+    }
+    final var updateCounts =
+        executeIfAbsent(
+            insertIfAbsentStatement(TagEntity.class, "nameKey", INSERT_PROPERTIES),
+            statement -> {
+              for (Tag tag : tags) {
+                setTag(statement, tag);
+                statement.addBatch();
+              }
+              return statement.executeBatch();
+            });
+    final var saved = new ArrayList<Tag>();
+    for (int row = 0; row < tags.size(); row++) {
+      if (isWritten(updateCounts, row)) {
+        saved.add(tags.get(row));
+      }
+    }
+    return saved;
+  }
+
+  private static void setTag(PreparedStatement statement, Tag tag) throws SQLException {
+    final var nameKey = LookupKeys.key(tag.getName());
+    statement.setObject(1, tag.getId());
+    statement.setString(2, tag.getName());
+    statement.setString(3, nameKey);
+    statement.setLong(4, 0);
+    statement.setString(5, nameKey);
+  }
+
   @Override
   public List<Tag> findByNames(List<String> names) {
     final var tagsEntity =
         find(
-                "select tags from TagEntity as tags where upper(tags.name) in (:names)",
-                Parameters.with("names", toUpperCase(names)))
+                "select tags from TagEntity as tags where tags.nameKey in (:names)",
+                Parameters.with("names", LookupKeys.keys(names)))
             .list();
     return tagsEntity.stream().map(entityUtils::tag).collect(Collectors.toList());
   }
+
+  @Override
+  public List<TagUsage> findUsages() {
+    return getEntityManager()
+        .createQuery(
+            "select new org.example.realworldapi.domain.model.tag.TagUsage(tags.id, tags.name, tags.usageCount) from TagEntity as tags",
+            TagUsage.class)
+        .getResultList();
+  }
+
+  @Override
+  public void updateUsageCount(Collection<UUID> tagIds, long delta) {
+    if (tagIds.isEmpty()) {
+      return;
+    }
+    // Counters are only read through scalar queries, so the update is synchronized on its own
+    // query space instead of evicting every cached tag.
+    getEntityManager()
+        .createNativeQuery("update TAGS set usage_count = usage_count + :delta where id in (:tagIds)")
+        .unwrap(NativeQuery.class)
+        .addSynchronizedQuerySpace(USAGE_COUNT_SPACE)
+        .setParameter("delta", delta)
+        .setParameter("tagIds", tagIds)
+        .executeUpdate();
+  }
+
+  void onTagCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagCreatedEvent event) {
+    entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegion(ALL_TAGS_REGION);
+  }
 }
@@ -0,0 +1,247 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.panache;
+
+import io.quarkus.panache.common.Parameters;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.article.Article;
+import org.example.realworldapi.domain.model.article.ArticleCursor;
+import org.example.realworldapi.domain.model.article.ArticleFilter;
+import org.example.realworldapi.domain.model.article.ArticleView;
+import org.example.realworldapi.domain.model.article.CountMode;
+import org.example.realworldapi.domain.model.article.PageResult;
+import org.example.realworldapi.domain.model.article.TimelineRepository;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.TimelineEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.TimelineEntityKey;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.PageCountCache;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.SimpleQueryBuilder;
+import org.hibernate.query.NativeQuery;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.transaction.Transactional;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@RepositoryMetrics
+public class TimelineRepositoryPanache
+    extends AbstractPanacheRepository<TimelineEntity, TimelineEntityKey>
+    implements TimelineRepository {
+
+  private final PageCountCache pageCountCache;
+  private final long fanOutMaxFollowers;
+  private final long hysteresisFloor;
+
+  public TimelineRepositoryPanache(
+      PageCountCache pageCountCache,
+      @ConfigProperty(name = "timeline.fanout.max-followers") long fanOutMaxFollowers,
+      @ConfigProperty(name = "timeline.fanout.hysteresis") long fanOutHysteresis) {
+    this.pageCountCache = pageCountCache;
+    this.fanOutMaxFollowers = fanOutMaxFollowers;
+    this.hysteresisFloor = fanOutMaxFollowers - fanOutHysteresis;
+  }
+
+  @Override
+  public void fanOut(Article article) {
+    getEntityManager().flush();
+    timelineInsert(
+            "insert into TIMELINE (user_id, article_id, created_at) select follows.user_id, :articleId, :createdAt from FOLLOW_RELATIONSHIP follows inner join USERS users on users.id = follows.followed_id where follows.followed_id = :authorId and users.followers_count <= :maxFollowers")
+        .setParameter("articleId", article.getId())
+        .setParameter("createdAt", article.getCreatedAt())
+        .setParameter("authorId", article.getAuthor().getId())
+        .setParameter("maxFollowers", fanOutMaxFollowers)
+        .executeUpdate();
+  }
+
+  @Override
+  public void fanOut(List<UUID> articleIds) {
+    if (articleIds.isEmpty()) {
+      return;
+    }
+    getEntityManager().flush();
+    timelineInsert(
+            "insert into TIMELINE (user_id, article_id, created_at) select follows.user_id, articles.id, articles.createdAt from ARTICLES articles inner join FOLLOW_RELATIONSHIP follows on follows.followed_id = articles.author_id inner join USERS users on users.id = articles.author_id where articles.id in (:articleIds) and users.followers_count <= :maxFollowers")
+        .setParameter("articleIds", articleIds)
+        .setParameter("maxFollowers", fanOutMaxFollowers)
+        .executeUpdate();
+  }
+
+  @Override
+  public void backfill(UUID userId, UUID followedUserId) {
+    getEntityManager().flush();
+    timelineInsert(
+            "insert into TIMELINE (user_id, article_id, created_at) select :userId, articles.id, articles.createdAt from ARTICLES articles where articles.author_id = :followedUserId and not exists (select 1 from TIMELINE timeline where timeline.user_id = :userId and timeline.article_id = articles.id)")
+        .setParameter("userId", userId)
+        .setParameter("followedUserId", followedUserId)
+        .executeUpdate();
+  }
+
+  // Articles published while the author was above the fan-out limit have no timeline rows, so
+  // they are copied to every follower once the author is back within the limit. Reads keep merging
+  // the author's articles until the followers drop below the hysteresis band, which gives the
+  // backfill time to finish and keeps an author hovering around the limit from flapping.
+  @Override
+  @Transactional
+  public void backfillFollowers(UUID authorId) {
+    getEntityManager().flush();
+    timelineInsert(
+            "insert into TIMELINE (user_id, article_id, created_at) select follows.user_id, articles.id, articles.createdAt from ARTICLES articles inner join FOLLOW_RELATIONSHIP follows on follows.followed_id = articles.author_id inner join USERS users on users.id = articles.author_id where articles.author_id = :authorId and users.followers_count <= :maxFollowers and users.followers_count >= :hysteresisFloor and not exists (select 1 from TIMELINE timeline where timeline.user_id = follows.user_id and timeline.article_id = articles.id)")
+        .setParameter("authorId", authorId)
+        .setParameter("maxFollowers", fanOutMaxFollowers)
+        .setParameter("hysteresisFloor", hysteresisFloor)
+        .executeUpdate();
+  }
+
+  @Override
+  public void prune(UUID userId, UUID followedUserId) {
+    delete(
+        "primaryKey.user.id = :userId and primaryKey.article.id in (select articles.id from ArticleEntity as articles where articles.author.id = :followedUserId)",
+        Parameters.with("userId", userId).and("followedUserId", followedUserId));
+  }
+
+  @Override
+  public void deleteByArticle(UUID articleId) {
+    delete("primaryKey.article.id", articleId);
+  }
+
+  @Override
+  public PageResult<ArticleView> findTimeline(ArticleFilter filter) {
+    final var loggedUserId = filter.getLoggedUserId();
+    final var celebrityIds = findFollowedCelebrityIds(loggedUserId);
+    final var firstResult =
+        filter.getCursor() != null ? 0 : filter.getOffset() * filter.getLimit();
+
+    if (celebrityIds.isEmpty()) {
+      final var articles =
+          findTimelineArticles(
+              loggedUserId, filter.getCursor(), firstResult, filter.getLimit() + 1);
+      return timelinePageResult(articles, filter, () -> countTimeline(loggedUserId));
+    }
+
+    final var window = firstResult + filter.getLimit() + 1;
+    final var merged = new LinkedHashMap<UUID, ArticleView>();
+    findTimelineArticles(loggedUserId, filter.getCursor(), 0, window)
+        .forEach(article -> merged.put(article.getId(), article));
+    findAuthorsArticles(celebrityIds, filter.getCursor(), window)
+        .forEach(article -> merged.putIfAbsent(article.getId(), article));
+    final var articles =
+        merged.values().stream()
+            .sorted(
+                Comparator.comparing(ArticleView::getCreatedAt)
+                    .thenComparing(ArticleView::getId)
+                    .reversed())
+            .skip(firstResult)
+            .limit(filter.getLimit() + 1)
+            .collect(Collectors.toList());
+    return timelinePageResult(
+        articles,
+        filter,
+        () ->
+            countTimeline(loggedUserId)
+                + countAuthorsArticlesOutsideTimeline(loggedUserId, celebrityIds));
+  }
+
+  private PageResult<ArticleView> timelinePageResult(
+      List<ArticleView> articles, ArticleFilter filter, Supplier<Long> count) {
+    final var limit = filter.getLimit();
+    switch (filter.getCountMode()) {
+      case NONE:
+        return pageResult(articles, limit, null, CountMode.NONE);
+      case CACHED:
+      case ESTIMATED:
+        return pageResult(
+            articles,
+            limit,
+            pageCountCache.get(List.of(TimelineEntity.class, filter.getLoggedUserId()), count),
+            CountMode.CACHED);
+      default:
+        return pageResult(articles, limit, count.get(), CountMode.EXACT);
+    }
+  }
+
+  private long countTimeline(UUID loggedUserId) {
+    return count("primaryKey.user.id", loggedUserId);
+  }
+
+  private NativeQuery<?> timelineInsert(String sql) {
+    return getEntityManager()
+        .createNativeQuery(sql)
+        .unwrap(NativeQuery.class)
+        .addSynchronizedEntityClass(TimelineEntity.class);
+  }
+
+  private List<UUID> findFollowedCelebrityIds(UUID loggedUserId) {
+    return getEntityManager()
+        .createQuery(
+            "select follow.primaryKey.followed.id from FollowRelationshipEntity as follow where follow.primaryKey.user.id = :loggedUserId and follow.primaryKey.followed.followersCount > :hysteresisFloor",
+            UUID.class)
+        .setParameter("loggedUserId", loggedUserId)
+        .setParameter("hysteresisFloor", hysteresisFloor)
+        .getResultList();
+  }
+
+  private List<ArticleView> findTimelineArticles(
+      UUID loggedUserId, ArticleCursor cursor, int firstResult, int maxResults) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("loggedUserId", loggedUserId);
+    SimpleQueryBuilder findArticlesQueryBuilder = new SimpleQueryBuilder();
+    findArticlesQueryBuilder.addQueryStatement(
+        ArticleRepositoryPanache.SELECT_ARTICLE_VIEW
+            + " from TimelineEntity as timeline inner join timeline.primaryKey.article as articles inner join articles.author as author");
+    findArticlesQueryBuilder.addWhereStatement("timeline.primaryKey.user.id = :loggedUserId");
+    findArticlesQueryBuilder.updateWhereStatementConditional(
+        cursor != null,
+        "(timeline.createdAt < :cursorCreatedAt or (timeline.createdAt = :cursorCreatedAt and timeline.primaryKey.article.id < :cursorId))",
+        () -> {
+          params.put("cursorCreatedAt", cursor.getCreatedAt());
+          params.put("cursorId", cursor.getId());
+        });
+    return articles(
+        findArticlesQueryBuilder.toQueryString()
+            + " order by timeline.createdAt desc, timeline.primaryKey.article.id desc",
+        params,
+        firstResult,
+        maxResults);
+  }
+
+  private List<ArticleView> findAuthorsArticles(
+      List<UUID> authorIds, ArticleCursor cursor, int maxResults) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("authorIds", authorIds);
+    SimpleQueryBuilder findArticlesQueryBuilder = new SimpleQueryBuilder();
+    findArticlesQueryBuilder.addQueryStatement(
+        ArticleRepositoryPanache.SELECT_ARTICLE_VIEW
+            + " from ArticleEntity as articles inner join articles.author as author");
+    findArticlesQueryBuilder.addWhereStatement("author.id in (:authorIds)");
+    findArticlesQueryBuilder.updateWhereStatementConditional(
+        cursor != null,
+        "(articles.createdAt < :cursorCreatedAt or (articles.createdAt = :cursorCreatedAt and articles.id < :cursorId))",
+        () -> {
+          params.put("cursorCreatedAt", cursor.getCreatedAt());
+          params.put("cursorId", cursor.getId());
+        });
+    return articles(
+        findArticlesQueryBuilder.toQueryString()
+            + " order by articles.createdAt desc, articles.id desc",
+        params,
+        0,
+        maxResults);
+  }
+
+  private long countAuthorsArticlesOutsideTimeline(UUID loggedUserId, List<UUID> authorIds) {
+    return getEntityManager()
+        .createQuery(
+            "select count(articles) from ArticleEntity as articles where articles.author.id in (:authorIds) and not exists (select timeline from TimelineEntity as timeline where timeline.primaryKey.user.id = :loggedUserId and timeline.primaryKey.article.id = articles.id)",
+            Long.class)
+        .setParameter("authorIds", authorIds)
+        .setParameter("loggedUserId", loggedUserId)
+        .getSingleResult();
+  }
+
+  private List<ArticleView> articles(
+      String query, Map<String, Object> params, int firstResult, int maxResults) {
+    final var typedQuery = getEntityManager().createQuery(query, ArticleView.class);
+    params.forEach(typedQuery::setParameter);
+    return typedQuery.setFirstResult(firstResult).setMaxResults(maxResults).getResultList();
+  }
+}
@@ -3,21 +3,32 @@ package org.example.realworldapi.infrastructure.repository.hibernate.panache;
 import lombok.AllArgsConstructor;
 import org.example.realworldapi.domain.model.user.User;
 import org.example.realworldapi.domain.model.user.UserRepository;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.EntityUtils;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.RepositoryMetrics;
+import org.hibernate.Cache;
+import org.hibernate.query.NativeQuery;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
 import java.util.Optional;
 import java.util.UUID;
 
 import static io.quarkus.panache.common.Parameters.with;
 
 @ApplicationScoped
+@RepositoryMetrics
 @AllArgsConstructor
 public class UserRepositoryPanache extends AbstractPanacheRepository<UserEntity, UUID>
     implements UserRepository {
 
+  private static final String FOLLOWERS_COUNT_SPACE = "USERS.followers_count";
+  private static final String PASSWORD_SPACE = "USERS.password";
+
   private final EntityUtils entityUtils;
+  private final EntityManagerFactory entityManagerFactory;
 
   @Override
   public void save(User user) {
@@ -26,12 +37,12 @@ public class UserRepositoryPanache extends AbstractPanacheRepository<UserEntity,
 
   @Override
   public boolean existsBy(String field, String value) {
-    return count("upper(" + field + ")", value.toUpperCase().trim()) > 0;
+    return count(field + "Key", LookupKeys.key(value)) > 0;
   }
 
   @Override
   public Optional<User> findByEmail(String email) {
-    return find("upper(email)", email.toUpperCase().trim())
+    return find("emailKey", LookupKeys.key(email))
         .firstResultOptional()
         .map(entityUtils::user);
   }
@@ -44,16 +55,16 @@ public class UserRepositoryPanache extends AbstractPanacheRepository<UserEntity,
   @Override
   public boolean existsUsername(UUID excludeId, String username) {
     return count(
-            "id != :excludeId and upper(username) = :username",
-            with("excludeId", excludeId).and("username", username.toUpperCase().trim()))
+            "id != :excludeId and usernameKey = :usernameKey",
+            with("excludeId", excludeId).and("usernameKey", LookupKeys.key(username)))
         > 0;
   }
 
   @Override
   public boolean existsEmail(UUID excludeId, String email) {
     return count(
-            "id != :excludeId and upper(email) = :email",
-            with("excludeId", excludeId).and("email", email.toUpperCase().trim()))
+            "id != :excludeId and emailKey = :emailKey",
+            with("excludeId", excludeId).and("emailKey", LookupKeys.key(email)))
         > 0;
   }
 
@@ -63,10 +74,39 @@ public class UserRepositoryPanache extends AbstractPanacheRepository<UserEntity,
     userEntity.update(user);
   }
 
+  // Runs in its own short transaction when the caller has none, so a login only holds a connection
+  // for the write itself.
+  @Override
+  @Transactional
+  public void updatePassword(UUID userId, String password) {
+    getEntityManager()
+        .createNativeQuery("update USERS set password = :password where id = :userId")
+        .unwrap(NativeQuery.class)
+        .addSynchronizedQuerySpace(PASSWORD_SPACE)
+        .setParameter("password", password)
+        .setParameter("userId", userId)
+        .executeUpdate();
+    entityManagerFactory.getCache().unwrap(Cache.class).evict(UserEntity.class, userId);
+  }
+
   @Override
   public Optional<User> findByUsername(String username) {
-    return find("upper(username)", username.toUpperCase().trim())
-        .firstResultOptional()
+    return findByNaturalId(UserEntity.class, "usernameKey", LookupKeys.key(username))
         .map(entityUtils::user);
   }
+
+  @Override
+  public void updateFollowersCount(UUID userId, long delta) {
+    // A bulk HQL update would invalidate the whole UserEntity region, so only the updated user
+    // is evicted.
+    getEntityManager()
+        .createNativeQuery(
+            "update USERS set followers_count = followers_count + :delta where id = :userId")
+        .unwrap(NativeQuery.class)
+        .addSynchronizedQuerySpace(FOLLOWERS_COUNT_SPACE)
+        .setParameter("delta", delta)
+        .setParameter("userId", userId)
+        .executeUpdate();
+    entityManagerFactory.getCache().unwrap(Cache.class).evict(UserEntity.class, userId);
+  }
 }
@@ -0,0 +1,87 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.panache.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.runtime.StartupEvent;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.TagRepositoryPanache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.persistence.EntityManagerFactory;
+import java.util.function.ToLongFunction;
+
+@ApplicationScoped
+public class CacheRegionMetrics {
+
+  void onStart(
+      @Observes StartupEvent startupEvent,
+      EntityManagerFactory entityManagerFactory,
+      MeterRegistry meterRegistry) {
+    final var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    final var statistics = sessionFactory.getStatistics();
+    for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+      final var entityName = persister.getEntityName();
+      if (persister.canReadFromCache()) {
+        final var region = persister.getCacheAccessStrategy().getRegion().getName();
+        region(
+            meterRegistry,
+            statistics,
+            Tags.of("region", region, "kind", "entity"),
+            value -> value.getDomainDataRegionStatistics(region).getHitCount(),
+            value -> value.getDomainDataRegionStatistics(region).getMissCount());
+      }
+      if (persister.hasNaturalIdCache()) {
+        region(
+            meterRegistry,
+            statistics,
+            Tags.of("region", entityName, "kind", "natural-id"),
+            value -> value.getNaturalIdStatistics(entityName).getCacheHitCount(),
+            value -> value.getNaturalIdStatistics(entityName).getCacheMissCount());
+      }
+    }
+    final var queryRegion = TagRepositoryPanache.ALL_TAGS_REGION;
+    region(
+        meterRegistry,
+        statistics,
+        Tags.of("region", queryRegion, "kind", "query"),
+        value -> queryCount(value, queryRegion, true),
+        value -> queryCount(value, queryRegion, false));
+  }
+
+  private void region(
+      MeterRegistry meterRegistry,
+      Statistics statistics,
+      Tags tags,
+      ToLongFunction<Statistics> hits,
+      ToLongFunction<Statistics> misses) {
+    FunctionCounter.builder("hibernate.cache.region.requests", statistics, hits::applyAsLong)
+        .tags(tags.and("result", "hit"))
+        .register(meterRegistry);
+    FunctionCounter.builder("hibernate.cache.region.requests", statistics, misses::applyAsLong)
+        .tags(tags.and("result", "miss"))
+        .register(meterRegistry);
+    Gauge.builder(
+            "hibernate.cache.region.hit.ratio",
+            statistics,
+            value -> {
+              final var hitCount = hits.applyAsLong(value);
+              final var requestCount = hitCount + misses.applyAsLong(value);
+              return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+            })
+        .tags(tags)
+        .register(meterRegistry);
+  }
+
+  private long queryCount(Statistics statistics, String region, boolean hits) {
+    final var regionStatistics = statistics.getQueryRegionStatistics(region);
+    if (regionStatistics == null) {
+      return 0;
+    }
+    return hits ? regionStatistics.getHitCount() : regionStatistics.getMissCount();
+  }
+}
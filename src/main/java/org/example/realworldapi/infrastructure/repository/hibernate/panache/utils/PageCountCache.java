@@ -0,0 +1,37 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.panache.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+@ApplicationScoped
+public class PageCountCache {
+
+  private static final String CACHE_NAME = "page-count";
+
+  private final Cache<List<Object>, Long> cache;
+
+  public PageCountCache(
+      MeterRegistry meterRegistry,
+      @ConfigProperty(name = "articles.count.cache.ttl") Duration ttl,
+      @ConfigProperty(name = "articles.count.cache.maximum-size") long maximumSize) {
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public long get(List<Object> key, Supplier<Long> count) {
+    return cache.get(key, ignored -> count.get());
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
@@ -0,0 +1,56 @@
+package org.example.realworldapi.infrastructure.repository.hibernate.panache.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RepositoryMetrics
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class RepositoryMetricsInterceptor {
+
+  private final Map<Method, Optional<Timer>> timers = new ConcurrentHashMap<>();
+
+  @Inject MeterRegistry meterRegistry;
+
+  @AroundInvoke
+  public Object time(InvocationContext invocationContext) throws Exception {
+    final var timer = timers.computeIfAbsent(invocationContext.getMethod(), this::timer);
+    if (timer.isEmpty()) {
+      return invocationContext.proceed();
+    }
+    final var sample = Timer.start(meterRegistry);
+    try {
+      return invocationContext.proceed();
+    } finally {
+      sample.stop(timer.get());
+    }
+  }
+
+  private Optional<Timer> timer(Method method) {
+    final var repository = method.getDeclaringClass();
+    for (Class<?> repositoryInterface : repository.getInterfaces()) {
+      try {
+        repositoryInterface.getMethod(method.getName(), method.getParameterTypes());
+        return Optional.of(
+            Timer.builder("repository.calls")
+                .tag("repository", repository.getSimpleName())
+                .tag("method", method.getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+      } catch (NoSuchMethodException ex) {
+        // not part of the repository contract, e.g. Panache or internal helpers
+      }
+    }
+    return Optional.empty();
+  }
+}
@@ -17,6 +17,10 @@ public class SimpleQueryBuilder {
     this.queryStatements.add(queryStatement);
   }
 
+  public void addWhereStatement(String whereStatement) {
+    this.whereStatements.add(whereStatement);
+  }
+
   public void updateQueryStatementConditional(
       boolean updateCondition,
       String queryStatement,
@@ -29,6 +33,14 @@ public class SimpleQueryBuilder {
     }
   }
 
+  public void updateWhereStatementConditional(
+      boolean updateCondition, String whereStatement, Runnable afterAddStatements) {
+    if (updateCondition) {
+      whereStatements.add(whereStatement);
+      afterAddStatements.run();
+    }
+  }
+
   public String toQueryString() {
     StringBuilder queryBuilder = new StringBuilder();
     queryBuilder.append(String.join(" ", queryStatements));
@@ -0,0 +1,32 @@
+package org.example.realworldapi.infrastructure.search;
+
+import lombok.AllArgsConstructor;
+import org.example.realworldapi.domain.model.article.ArticleRepository;
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import java.util.ArrayList;
+import java.util.List;
+
+@ApplicationScoped
+@AllArgsConstructor
+public class ArticleSearchDocumentsLoader {
+
+  private final ArticleRepository articleRepository;
+
+  @ActivateRequestContext
+  public List<List<ArticleSearchDocument>> load(int chunkSize) {
+    final var chunks = new ArrayList<List<ArticleSearchDocument>>();
+    var chunk = articleRepository.findSearchDocuments(null, chunkSize);
+    while (!chunk.isEmpty()) {
+      chunks.add(chunk);
+      chunk =
+          chunk.size() < chunkSize
+              ? List.of()
+              : articleRepository.findSearchDocuments(
+                  chunk.get(chunk.size() - 1).getId(), chunkSize);
+    }
+    return chunks;
+  }
+}
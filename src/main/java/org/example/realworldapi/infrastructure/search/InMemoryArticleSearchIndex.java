@@ -0,0 +1,77 @@
+package org.example.realworldapi.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.article.ArticleSearchIndex;
+import org.example.realworldapi.domain.model.article.ArticleTextChangedEvent;
+import org.example.realworldapi.domain.model.article.PageResult;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@ApplicationScoped
+public class InMemoryArticleSearchIndex implements ArticleSearchIndex {
+
+  private final ArticleSearchDocumentsLoader articleSearchDocumentsLoader;
+  private final int segmentSize;
+  private final int maxSegments;
+  private final ExecutorService mergeExecutor;
+  private volatile InvertedIndex index;
+
+  public InMemoryArticleSearchIndex(
+      ArticleSearchDocumentsLoader articleSearchDocumentsLoader,
+      MeterRegistry meterRegistry,
+      @ConfigProperty(name = "articles.search.segment-size") int segmentSize,
+      @ConfigProperty(name = "articles.search.max-segments") int maxSegments) {
+    this.articleSearchDocumentsLoader = articleSearchDocumentsLoader;
+    this.segmentSize = segmentSize;
+    this.maxSegments = maxSegments;
+    this.mergeExecutor = Executors.newSingleThreadExecutor(InMemoryArticleSearchIndex::mergeThread);
+    this.index = InvertedIndex.build(List.of(), maxSegments, mergeExecutor);
+    Gauge.builder("articles.search.index.documents", this, search -> search.index.size())
+        .register(meterRegistry);
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    rebuild();
+  }
+
+  public void rebuild() {
+    index =
+        InvertedIndex.build(
+            articleSearchDocumentsLoader.load(segmentSize), maxSegments, mergeExecutor);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    mergeExecutor.shutdown();
+  }
+
+  @Override
+  public PageResult<UUID> search(String query, int firstResult, int maxResults) {
+    return index.search(query, firstResult, maxResults);
+  }
+
+  void onArticleTextChanged(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) ArticleTextChangedEvent event) {
+    if (event.getDocument() != null) {
+      index.index(event.getDocument());
+    } else {
+      index.remove(event.getArticleId());
+    }
+  }
+
+  private static Thread mergeThread(Runnable runnable) {
+    final var thread = new Thread(runnable, "article-search-merge");
+    thread.setDaemon(true);
+    return thread;
+  }
+}
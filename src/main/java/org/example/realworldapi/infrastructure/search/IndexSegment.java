@@ -0,0 +1,255 @@
+package org.example.realworldapi.infrastructure.search;
+
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// An immutable batch of documents. Postings store (doc delta, term frequency) pairs as varints;
+// deletions produce a copy with a new live-docs bit set and share everything else.
+class IndexSegment {
+
+  private final UUID[] ids;
+  private final int[] lengths;
+  private final Map<String, Postings> postings;
+  private final Map<UUID, Integer> docNumbers;
+  private final BitSet deleted;
+  private final int liveCount;
+  private final long liveLength;
+
+  private IndexSegment(
+      UUID[] ids,
+      int[] lengths,
+      Map<String, Postings> postings,
+      Map<UUID, Integer> docNumbers,
+      BitSet deleted,
+      int liveCount,
+      long liveLength) {
+    this.ids = ids;
+    this.lengths = lengths;
+    this.postings = postings;
+    this.docNumbers = docNumbers;
+    this.deleted = deleted;
+    this.liveCount = liveCount;
+    this.liveLength = liveLength;
+  }
+
+  static IndexSegment build(List<ArticleSearchDocument> documents) {
+    final var ids = new UUID[documents.size()];
+    final var lengths = new int[documents.size()];
+    final var writers = new HashMap<String, PostingsWriter>();
+    long totalLength = 0;
+    for (int doc = 0; doc < documents.size(); doc++) {
+      final var document = documents.get(doc);
+      final var tokens = tokens(document);
+      final var termFrequencies = new HashMap<String, Integer>();
+      tokens.forEach(token -> termFrequencies.merge(token, 1, Integer::sum));
+      for (Map.Entry<String, Integer> termFrequency : termFrequencies.entrySet()) {
+        writers
+            .computeIfAbsent(termFrequency.getKey(), term -> new PostingsWriter())
+            .add(doc, termFrequency.getValue());
+      }
+      ids[doc] = document.getId();
+      lengths[doc] = tokens.size();
+      totalLength += tokens.size();
+    }
+    return of(ids, lengths, writers, totalLength);
+  }
+
+  static IndexSegment merge(List<IndexSegment> segments) {
+    final var liveCount = segments.stream().mapToInt(IndexSegment::liveCount).sum();
+    final var ids = new UUID[liveCount];
+    final var lengths = new int[liveCount];
+    final var writers = new HashMap<String, PostingsWriter>();
+    long totalLength = 0;
+    int nextDoc = 0;
+    for (IndexSegment segment : segments) {
+      final var docMap = new int[segment.ids.length];
+      for (int doc = 0; doc < segment.ids.length; doc++) {
+        if (segment.deleted.get(doc)) {
+          docMap[doc] = -1;
+        } else {
+          docMap[doc] = nextDoc;
+          ids[nextDoc] = segment.ids[doc];
+          lengths[nextDoc] = segment.lengths[doc];
+          totalLength += segment.lengths[doc];
+          nextDoc++;
+        }
+      }
+      segment.postings.forEach(
+          (term, termPostings) -> {
+            final var reader = termPostings.reader();
+            while (reader.next()) {
+              final var doc = docMap[reader.doc()];
+              if (doc >= 0) {
+                writers
+                    .computeIfAbsent(term, ignored -> new PostingsWriter())
+                    .add(doc, reader.frequency());
+              }
+            }
+          });
+    }
+    return of(ids, lengths, writers, totalLength);
+  }
+
+  private static IndexSegment of(
+      UUID[] ids, int[] lengths, Map<String, PostingsWriter> writers, long totalLength) {
+    final var postings = new HashMap<String, Postings>(writers.size() * 4 / 3 + 1);
+    writers.forEach((term, writer) -> postings.put(term, writer.toPostings()));
+    final var docNumbers = new HashMap<UUID, Integer>(ids.length * 4 / 3 + 1);
+    for (int doc = 0; doc < ids.length; doc++) {
+      docNumbers.put(ids[doc], doc);
+    }
+    return new IndexSegment(
+        ids, lengths, postings, docNumbers, new BitSet(ids.length), ids.length, totalLength);
+  }
+
+  private static List<String> tokens(ArticleSearchDocument document) {
+    final var tokens = TextAnalyzer.tokens(document.getTitle());
+    tokens.addAll(TextAnalyzer.tokens(document.getDescription()));
+    tokens.addAll(TextAnalyzer.tokens(document.getBody()));
+    return tokens;
+  }
+
+  boolean contains(UUID id) {
+    final var doc = docNumbers.get(id);
+    return doc != null && !deleted.get(doc);
+  }
+
+  IndexSegment delete(UUID id) {
+    final int doc = docNumbers.get(id);
+    final var deleted = (BitSet) this.deleted.clone();
+    deleted.set(doc);
+    return new IndexSegment(
+        ids, lengths, postings, docNumbers, deleted, liveCount - 1, liveLength - lengths[doc]);
+  }
+
+  // Deletions copy the live-docs bit set but share the document arrays.
+  boolean isVersionOf(IndexSegment segment) {
+    return ids == segment.ids;
+  }
+
+  int docCount() {
+    return ids.length;
+  }
+
+  int liveCount() {
+    return liveCount;
+  }
+
+  long liveLength() {
+    return liveLength;
+  }
+
+  int docFrequency(String term) {
+    final var termPostings = postings.get(term);
+    return termPostings != null ? termPostings.docFrequency : 0;
+  }
+
+  UUID id(int doc) {
+    return ids[doc];
+  }
+
+  int length(int doc) {
+    return lengths[doc];
+  }
+
+  boolean isDeleted(int doc) {
+    return deleted.get(doc);
+  }
+
+  PostingsReader postings(String term) {
+    final var termPostings = postings.get(term);
+    return termPostings != null ? termPostings.reader() : null;
+  }
+
+  private static final class Postings {
+    private final int docFrequency;
+    private final byte[] data;
+
+    private Postings(int docFrequency, byte[] data) {
+      this.docFrequency = docFrequency;
+      this.data = data;
+    }
+
+    private PostingsReader reader() {
+      return new PostingsReader(data, docFrequency);
+    }
+  }
+
+  private static final class PostingsWriter {
+    private byte[] data = new byte[8];
+    private int size;
+    private int docFrequency;
+    private int lastDoc;
+
+    private void add(int doc, int frequency) {
+      writeVarInt(doc - lastDoc);
+      writeVarInt(frequency);
+      lastDoc = doc;
+      docFrequency++;
+    }
+
+    private void writeVarInt(int value) {
+      if (size + 5 > data.length) {
+        data = Arrays.copyOf(data, Math.max(data.length * 2, size + 5));
+      }
+      while ((value & ~0x7F) != 0) {
+        data[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      data[size++] = (byte) value;
+    }
+
+    private Postings toPostings() {
+      return new Postings(docFrequency, Arrays.copyOf(data, size));
+    }
+  }
+
+  static final class PostingsReader {
+    private final byte[] data;
+    private int remaining;
+    private int position;
+    private int doc;
+    private int frequency;
+
+    private PostingsReader(byte[] data, int docFrequency) {
+      this.data = data;
+      this.remaining = docFrequency;
+    }
+
+    boolean next() {
+      if (remaining == 0) {
+        return false;
+      }
+      doc += readVarInt();
+      frequency = readVarInt();
+      remaining--;
+      return true;
+    }
+
+    int doc() {
+      return doc;
+    }
+
+    int frequency() {
+      return frequency;
+    }
+
+    private int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte current;
+      do {
+        current = data[position++];
+        value |= (current & 0x7F) << shift;
+        shift += 7;
+      } while ((current & 0x80) != 0);
+      return value;
+    }
+  }
+}
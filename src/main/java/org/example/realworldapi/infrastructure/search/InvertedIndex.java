@@ -0,0 +1,242 @@
+package org.example.realworldapi.infrastructure.search;
+
+import org.example.realworldapi.domain.model.article.ArticleSearchDocument;
+import org.example.realworldapi.domain.model.article.CountMode;
+import org.example.realworldapi.domain.model.article.PageResult;
+import org.example.realworldapi.infrastructure.search.IndexSegment.PostingsReader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class InvertedIndex {
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final Comparator<Hit> HIT_ORDER =
+      Comparator.comparingDouble(Hit::getScore).reversed().thenComparing(Hit::getId);
+
+  private final int maxSegments;
+  private final Executor mergeExecutor;
+  private volatile List<IndexSegment> segments;
+  private boolean mergeScheduled;
+  private Set<UUID> deletedDuringMerge;
+
+  private InvertedIndex(List<IndexSegment> segments, int maxSegments, Executor mergeExecutor) {
+    this.segments = segments;
+    this.maxSegments = maxSegments;
+    this.mergeExecutor = mergeExecutor;
+  }
+
+  // Consecutive chunks are grouped into at most half of maxSegments segments, leaving the other
+  // half for incremental writes before the first merge. Segments are built independently, so a
+  // rebuild scales with the available cores.
+  public static InvertedIndex build(
+      List<List<ArticleSearchDocument>> chunks, int maxSegments, Executor mergeExecutor) {
+    final var chunksPerSegment = Math.max(1, ceilDiv(chunks.size(), Math.max(1, maxSegments / 2)));
+    final var segments =
+        IntStream.range(0, ceilDiv(chunks.size(), chunksPerSegment))
+            .parallel()
+            .mapToObj(
+                segment ->
+                    chunks
+                        .subList(
+                            segment * chunksPerSegment,
+                            Math.min(chunks.size(), (segment + 1) * chunksPerSegment))
+                        .stream()
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList()))
+            .filter(documents -> !documents.isEmpty())
+            .map(IndexSegment::build)
+            .collect(Collectors.toList());
+    return new InvertedIndex(segments, maxSegments, mergeExecutor);
+  }
+
+  public synchronized void index(ArticleSearchDocument document) {
+    final var updated = withoutDocument(segments, document.getId());
+    updated.add(IndexSegment.build(List.of(document)));
+    segments = updated;
+    scheduleMergeIfNeeded();
+  }
+
+  public synchronized void remove(UUID id) {
+    segments = withoutDocument(segments, id);
+  }
+
+  public int size() {
+    return segments.stream().mapToInt(IndexSegment::liveCount).sum();
+  }
+
+  public PageResult<UUID> search(String query, int firstResult, int maxResults) {
+    final var segments = this.segments;
+    final var terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.tokens(query)));
+    final long docCount = segments.stream().mapToLong(IndexSegment::liveCount).sum();
+    if (terms.isEmpty() || docCount == 0) {
+      return new PageResult<>(List.of(), 0L, CountMode.EXACT, false);
+    }
+    final var totalLength = segments.stream().mapToLong(IndexSegment::liveLength).sum();
+    final var averageLength = Math.max(1.0, totalLength / (double) docCount);
+    final var idfs = new double[terms.size()];
+    for (int term = 0; term < terms.size(); term++) {
+      final var termIndex = term;
+      final var docFrequency =
+          segments.stream().mapToInt(segment -> segment.docFrequency(terms.get(termIndex))).sum();
+      idfs[term] = Math.log(1 + (docCount - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    final var topHits = firstResult + maxResults;
+    final var queue = new PriorityQueue<>(HIT_ORDER.reversed());
+    long total = 0;
+    // Postings are sorted by document, so each segment is scored document-at-a-time by walking
+    // the query terms' postings in step, without per-document score arrays.
+    for (IndexSegment segment : segments) {
+      final var readers = new PostingsReader[terms.size()];
+      final var readerIdfs = new double[terms.size()];
+      int active = 0;
+      for (int term = 0; term < terms.size(); term++) {
+        final var postings = segment.postings(terms.get(term));
+        if (postings != null && postings.next()) {
+          readers[active] = postings;
+          readerIdfs[active++] = idfs[term];
+        }
+      }
+      while (active > 0) {
+        int doc = Integer.MAX_VALUE;
+        for (int reader = 0; reader < active; reader++) {
+          doc = Math.min(doc, readers[reader].doc());
+        }
+        final var norm = K1 * (1 - B + B * segment.length(doc) / averageLength);
+        double score = 0;
+        for (int reader = 0; reader < active; ) {
+          final var postings = readers[reader];
+          if (postings.doc() != doc) {
+            reader++;
+            continue;
+          }
+          final var frequency = postings.frequency();
+          score += readerIdfs[reader] * frequency * (K1 + 1) / (frequency + norm);
+          if (postings.next()) {
+            reader++;
+          } else {
+            active--;
+            readers[reader] = readers[active];
+            readerIdfs[reader] = readerIdfs[active];
+          }
+        }
+        if (segment.isDeleted(doc)) {
+          continue;
+        }
+        total++;
+        if (topHits == 0 || queue.size() == topHits && score < queue.peek().getScore()) {
+          continue;
+        }
+        queue.add(new Hit(segment.id(doc), score));
+        if (queue.size() > topHits) {
+          queue.poll();
+        }
+      }
+    }
+
+    final var hits = queue.toArray(new Hit[0]);
+    Arrays.sort(hits, HIT_ORDER);
+    final var page =
+        Arrays.stream(hits).skip(firstResult).map(Hit::getId).collect(Collectors.toList());
+    return new PageResult<>(page, total, CountMode.EXACT, total > topHits);
+  }
+
+  private List<IndexSegment> withoutDocument(List<IndexSegment> segments, UUID id) {
+    if (deletedDuringMerge != null) {
+      deletedDuringMerge.add(id);
+    }
+    final var updated = new ArrayList<IndexSegment>(segments.size() + 1);
+    for (IndexSegment segment : segments) {
+      if (!segment.contains(id)) {
+        updated.add(segment);
+      } else if (segment.liveCount() > 1) {
+        updated.add(segment.delete(id));
+      }
+    }
+    return updated;
+  }
+
+  // Incremental writes add single-document segments; once there are too many, the smaller half
+  // is merged, which also drops their deleted documents. The merge runs on the merge executor so
+  // the writing thread only pays for its own single-document segment.
+  private void scheduleMergeIfNeeded() {
+    if (!mergeScheduled && segments.size() > maxSegments) {
+      mergeScheduled = true;
+      mergeExecutor.execute(this::merge);
+    }
+  }
+
+  private void merge() {
+    final List<IndexSegment> sources;
+    synchronized (this) {
+      if (segments.size() <= maxSegments) {
+        mergeScheduled = false;
+        return;
+      }
+      final var bySize = new ArrayList<>(segments);
+      bySize.sort(Comparator.comparingInt(IndexSegment::docCount));
+      sources = new ArrayList<>(bySize.subList(0, segments.size() - maxSegments / 2));
+      deletedDuringMerge = new HashSet<>();
+    }
+    try {
+      var merged = IndexSegment.merge(sources);
+      synchronized (this) {
+        // Documents deleted or re-indexed while merging are still live in the merged copy.
+        for (UUID id : deletedDuringMerge) {
+          if (merged.contains(id)) {
+            merged = merged.delete(id);
+          }
+        }
+        final var updated = new ArrayList<IndexSegment>(segments.size());
+        for (IndexSegment segment : segments) {
+          if (sources.stream().noneMatch(segment::isVersionOf)) {
+            updated.add(segment);
+          }
+        }
+        if (merged.liveCount() > 0) {
+          updated.add(merged);
+        }
+        segments = updated;
+      }
+    } finally {
+      synchronized (this) {
+        deletedDuringMerge = null;
+        mergeScheduled = false;
+      }
+    }
+  }
+
+  private static int ceilDiv(int dividend, int divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+  private static final class Hit {
+    private final UUID id;
+    private final double score;
+
+    private Hit(UUID id, double score) {
+      this.id = id;
+      this.score = score;
+    }
+
+    private UUID getId() {
+      return id;
+    }
+
+    private double getScore() {
+      return score;
+    }
+  }
+}
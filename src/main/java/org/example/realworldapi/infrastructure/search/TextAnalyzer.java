@@ -0,0 +1,33 @@
+package org.example.realworldapi.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class TextAnalyzer {
+
+  private TextAnalyzer() {}
+
+  public static List<String> tokens(String text) {
+    final var tokens = new ArrayList<String>();
+    if (text == null) {
+      return tokens;
+    }
+    final var lowerCase = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for (int index = 0; index < lowerCase.length(); index++) {
+      if (Character.isLetterOrDigit(lowerCase.charAt(index))) {
+        if (start < 0) {
+          start = index;
+        }
+      } else if (start >= 0) {
+        tokens.add(lowerCase.substring(start, index));
+        start = -1;
+      }
+    }
+    if (start >= 0) {
+      tokens.add(lowerCase.substring(start));
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,58 @@
+package org.example.realworldapi.infrastructure.timeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.example.realworldapi.domain.model.article.TimelineRepository;
+import org.example.realworldapi.domain.model.user.UserUnfollowedEvent;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Backfilling an author's followers copies every article to every follower, so it runs after the
+// unfollow commits, in its own transaction. Unfollows of an author that arrive while a backfill is
+// still queued share it.
+@ApplicationScoped
+public class TimelineBackfill {
+
+  private static final String EXECUTOR_NAME = "timeline-backfill";
+
+  private final TimelineRepository timelineRepository;
+  private final ExecutorService executor;
+  private final Set<UUID> queuedAuthorIds = ConcurrentHashMap.newKeySet();
+
+  public TimelineBackfill(TimelineRepository timelineRepository, MeterRegistry meterRegistry) {
+    this.timelineRepository = timelineRepository;
+    this.executor = Executors.newSingleThreadExecutor(TimelineBackfill::backfillThread);
+    ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+  }
+
+  void onUserUnfollowed(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) UserUnfollowedEvent event) {
+    final var authorId = event.getUnfollowedUserId();
+    if (queuedAuthorIds.add(authorId)) {
+      executor.execute(
+          () -> {
+            queuedAuthorIds.remove(authorId);
+            timelineRepository.backfillFollowers(authorId);
+          });
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  private static Thread backfillThread(Runnable runnable) {
+    final var thread = new Thread(runnable, EXECUTOR_NAME);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,177 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.article.ArticleChangedEvent;
+import org.example.realworldapi.domain.model.article.ArticleCursor;
+import org.example.realworldapi.domain.model.article.ArticleFavoritedEvent;
+import org.example.realworldapi.domain.model.article.ArticleFilter;
+import org.example.realworldapi.domain.model.article.CountMode;
+import org.example.realworldapi.domain.model.user.UserUpdatedEvent;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ArticlesResponseCache {
+
+  private static final String CACHE_NAME = "articles";
+
+  private final LoadingCache<Key, Stamped<CachedArticlesResponse>> cache;
+  private final AtomicLong clock = new AtomicLong();
+  private final Cache<Key, Long> loads;
+  private final Cache<Key, Long> invalidations;
+
+  public ArticlesResponseCache(
+      ArticlesResponseLoader articlesResponseLoader,
+      MeterRegistry meterRegistry,
+      @ConfigProperty(name = "articles.cache.maximum-bytes") long maximumBytes,
+      @ConfigProperty(name = "articles.cache.refresh-after-write") Duration refreshAfterWrite,
+      @ConfigProperty(name = "articles.cache.expire-after-write") Duration expireAfterWrite) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .<Key, Stamped<CachedArticlesResponse>>weigher(
+                (key, value) -> value.getValue().getResponse().getBody().length)
+            .refreshAfterWrite(refreshAfterWrite)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build(key -> load(articlesResponseLoader, key));
+    // Both only have to outlive the loads that started before them.
+    this.loads = Caffeine.newBuilder().expireAfterWrite(expireAfterWrite).build();
+    this.invalidations = Caffeine.newBuilder().expireAfterWrite(expireAfterWrite).build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  // A load, or a refresh, that started before an invalidation may still store its result
+  // afterwards, so entries loaded before their key's last invalidation are dropped and loaded
+  // again. Once an entry has been read back from the cache, invalidations see it there.
+  public CachedResponse get(ArticleFilter filter) {
+    final var key = Key.of(filter);
+    var cached = cache.get(key);
+    if (cached.getGeneration() < invalidation(key)) {
+      cache.asMap().remove(key, cached);
+      cached = cache.get(key);
+    }
+    loads.asMap().remove(key, cached.getGeneration());
+    return cached.getValue().getResponse();
+  }
+
+  public void invalidate() {
+    invalidateIf((key, value) -> true);
+  }
+
+  void onArticleChanged(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) ArticleChangedEvent event) {
+    final var author = LookupKeys.key(event.getAuthor());
+    final var tags = LookupKeys.keys(event.getTags());
+    invalidateIf(
+        (key, value) ->
+            value.getArticleIds().contains(event.getArticleId())
+                || event.isListingChanged()
+                    && (key.getTags().isEmpty() || !Collections.disjoint(key.getTags(), tags))
+                    && (key.getAuthors().isEmpty() || key.getAuthors().contains(author)));
+  }
+
+  void onArticleFavorited(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) ArticleFavoritedEvent event) {
+    final var username = LookupKeys.key(event.getUsername());
+    invalidateIf(
+        (key, value) ->
+            value.getArticleIds().contains(event.getArticleId())
+                || key.getFavorited().contains(username));
+  }
+
+  void onUserUpdated(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserUpdatedEvent event) {
+    invalidateIf((key, value) -> value.getAuthorIds().contains(event.getUserId()));
+  }
+
+  // Every load is stamped from one clock and registered until its entry is read back. A load
+  // still registered when a write commits may have queried before it, and there is no value yet to
+  // test, so its key is invalidated whatever the write changed.
+  private Stamped<CachedArticlesResponse> load(ArticlesResponseLoader loader, Key key) {
+    final var generation = clock.incrementAndGet();
+    loads.put(key, generation);
+    return new Stamped<>(generation, loader.load(key.toFilter()));
+  }
+
+  private void invalidateIf(BiPredicate<Key, CachedArticlesResponse> stale) {
+    final var generation = clock.incrementAndGet();
+    loads
+        .asMap()
+        .forEach(
+            (key, loadGeneration) -> {
+              invalidate(key, generation);
+              if (loadGeneration < generation) {
+                loads.asMap().remove(key, loadGeneration);
+              }
+            });
+    cache
+        .asMap()
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (!stale.test(entry.getKey(), entry.getValue().getValue())) {
+                return false;
+              }
+              invalidate(entry.getKey(), generation);
+              return true;
+            });
+  }
+
+  // Writers can finish out of order, so a key keeps its latest invalidation.
+  private void invalidate(Key key, long generation) {
+    invalidations.asMap().merge(key, generation, Math::max);
+  }
+
+  private long invalidation(Key key) {
+    final var generation = invalidations.getIfPresent(key);
+    return generation != null ? generation : 0L;
+  }
+
+  @Value
+  static class Key {
+    int offset;
+    int limit;
+    List<String> tags;
+    List<String> authors;
+    List<String> favorited;
+    ArticleCursor cursor;
+    CountMode countMode;
+
+    static Key of(ArticleFilter filter) {
+      return new Key(
+          filter.getCursor() != null ? 0 : filter.getOffset(),
+          filter.getLimit(),
+          normalize(filter.getTags()),
+          normalize(filter.getAuthors()),
+          normalize(filter.getFavorited()),
+          filter.getCursor(),
+          filter.getCountMode());
+    }
+
+    ArticleFilter toFilter() {
+      return new ArticleFilter(
+          offset, limit, null, tags, authors, favorited, cursor, countMode);
+    }
+
+    private static List<String> normalize(List<String> values) {
+      return values == null
+          ? List.of()
+          : LookupKeys.keys(values).stream().distinct().sorted().collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import lombok.AllArgsConstructor;
+import org.example.realworldapi.application.web.resource.utils.EntityTags;
+import org.example.realworldapi.application.web.resource.utils.ResourceUtils;
+import org.example.realworldapi.domain.model.article.ArticleFilter;
+import org.example.realworldapi.domain.model.article.ArticleView;
+import org.example.realworldapi.domain.service.ArticlesService;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@AllArgsConstructor
+public class ArticlesResponseLoader {
+
+  private final ArticlesService articlesService;
+  private final ResourceUtils resourceUtils;
+
+  @ActivateRequestContext
+  public CachedArticlesResponse load(ArticleFilter filter) throws IOException {
+    final var pageResult = articlesService.findByFilter(filter);
+    final var output = new ByteArrayOutputStream();
+    resourceUtils.articlesResponse(pageResult, null).write(output);
+    final var body = output.toByteArray();
+    return new CachedArticlesResponse(
+        new CachedResponse(body, EntityTags.of(body)),
+        pageResult.getResult().stream().map(ArticleView::getId).collect(Collectors.toSet()),
+        pageResult.getResult().stream()
+            .map(article -> article.getAuthor().getId())
+            .collect(Collectors.toSet()));
+  }
+}
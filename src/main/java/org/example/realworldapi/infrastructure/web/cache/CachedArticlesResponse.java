@@ -0,0 +1,15 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CachedArticlesResponse {
+  private final CachedResponse response;
+  private final Set<UUID> articleIds;
+  private final Set<UUID> authorIds;
+}
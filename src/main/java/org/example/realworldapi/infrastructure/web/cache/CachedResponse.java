@@ -0,0 +1,13 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.ws.rs.core.EntityTag;
+
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+  private final byte[] body;
+  private final EntityTag entityTag;
+}
@@ -0,0 +1,10 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import lombok.Value;
+
+// A cached value together with the invalidation generation its load started under.
+@Value
+class Stamped<T> {
+  long generation;
+  T value;
+}
@@ -0,0 +1,21 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import lombok.AllArgsConstructor;
+import org.example.realworldapi.domain.model.tag.TagUsage;
+import org.example.realworldapi.domain.service.TagService;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import java.util.List;
+
+@ApplicationScoped
+@AllArgsConstructor
+public class TagUsageLoader {
+
+  private final TagService tagService;
+
+  @ActivateRequestContext
+  public List<TagUsage> load() {
+    return tagService.findUsages();
+  }
+}
@@ -0,0 +1,85 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import io.quarkus.runtime.StartupEvent;
+import org.example.realworldapi.domain.model.tag.TagUsage;
+import org.example.realworldapi.domain.model.tag.TagUsageChangedEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+
+@ApplicationScoped
+public class TagUsageRanking {
+
+  private static final Comparator<TagUsage> BY_USAGE =
+      Comparator.comparingLong(TagUsage::getUsageCount)
+          .reversed()
+          .thenComparing(TagUsage::getName)
+          .thenComparing(TagUsage::getTagId);
+
+  private final TagUsageLoader tagUsageLoader;
+  private final Map<UUID, TagUsage> usages = new HashMap<>();
+  private final NavigableSet<TagUsage> ranking = new TreeSet<>(BY_USAGE);
+  private long generation;
+
+  public TagUsageRanking(TagUsageLoader tagUsageLoader) {
+    this.tagUsageLoader = tagUsageLoader;
+  }
+
+  void onStart(@Observes StartupEvent startupEvent) {
+    reload();
+  }
+
+  public void reload() {
+    final var loaded = tagUsageLoader.load();
+    synchronized (this) {
+      usages.clear();
+      ranking.clear();
+      loaded.forEach(this::put);
+      generation++;
+    }
+  }
+
+  // Bumped on every change, so bodies rendered from the ranking can tell when they are stale.
+  public synchronized long generation() {
+    return generation;
+  }
+
+  public synchronized List<String> top(int limit) {
+    final var names = new ArrayList<String>(limit);
+    for (TagUsage usage : ranking) {
+      if (names.size() == limit || usage.getUsageCount() <= 0) {
+        break;
+      }
+      names.add(usage.getName());
+    }
+    return names;
+  }
+
+  synchronized void onTagUsageChanged(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) TagUsageChangedEvent event) {
+    final var current = usages.get(event.getTagId());
+    if (current != null) {
+      ranking.remove(current);
+      put(
+          new TagUsage(
+              current.getTagId(), current.getName(), current.getUsageCount() + event.getDelta()));
+    } else {
+      put(new TagUsage(event.getTagId(), event.getName(), event.getDelta()));
+    }
+    generation++;
+  }
+
+  private void put(TagUsage usage) {
+    usages.put(usage.getTagId(), usage);
+    ranking.add(usage);
+  }
+}
@@ -0,0 +1,85 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.application.web.resource.TagsResource;
+import org.example.realworldapi.domain.model.tag.TagCreatedEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApplicationScoped
+public class TagsResponseCache {
+
+  private static final String CACHE_NAME = "tags";
+  private static final String TOP_CACHE_NAME = "tags-top";
+  private static final String ALL_TAGS_KEY = "all";
+
+  private final LoadingCache<String, Stamped<CachedResponse>> cache;
+  private final AtomicLong generation = new AtomicLong();
+  private final LoadingCache<Integer, Stamped<CachedResponse>> topCache;
+  private final TagUsageRanking tagUsageRanking;
+
+  public TagsResponseCache(
+      TagsResponseLoader tagsResponseLoader,
+      TagUsageRanking tagUsageRanking,
+      MeterRegistry meterRegistry,
+      @ConfigProperty(name = "tags.cache.refresh-after-write") Duration refreshAfterWrite,
+      @ConfigProperty(name = "tags.cache.expire-after-write") Duration expireAfterWrite) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(1)
+            .refreshAfterWrite(refreshAfterWrite)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build(key -> new Stamped<>(generation.get(), tagsResponseLoader.load()));
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    this.tagUsageRanking = tagUsageRanking;
+    this.topCache =
+        Caffeine.newBuilder()
+            .maximumSize(TagsResource.MAX_TOP)
+            .recordStats()
+            .build(
+                limit ->
+                    new Stamped<>(
+                        tagUsageRanking.generation(), tagsResponseLoader.loadTop(limit)));
+    CaffeineCacheMetrics.monitor(meterRegistry, topCache, TOP_CACHE_NAME);
+  }
+
+  // A refresh that started before an invalidation may still store its result afterwards, so a
+  // body loaded under an older generation is dropped and loaded again.
+  public CachedResponse get() {
+    var cached = cache.get(ALL_TAGS_KEY);
+    if (cached.getGeneration() < generation.get()) {
+      cache.asMap().remove(ALL_TAGS_KEY, cached);
+      cached = cache.get(ALL_TAGS_KEY);
+    }
+    return cached.getValue();
+  }
+
+  // The ranking is kept in memory and versioned, so a top-N body stays valid until the ranking
+  // changes and needs neither a refresh nor an expiry.
+  public CachedResponse getTop(int limit) {
+    var cached = topCache.get(limit);
+    if (cached.getGeneration() < tagUsageRanking.generation()) {
+      topCache.asMap().remove(limit, cached);
+      cached = topCache.get(limit);
+    }
+    return cached.getValue();
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  void onTagCreated(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagCreatedEvent event) {
+    invalidate();
+  }
+}
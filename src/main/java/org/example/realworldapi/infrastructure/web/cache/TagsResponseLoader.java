@@ -0,0 +1,33 @@
+package org.example.realworldapi.infrastructure.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.example.realworldapi.application.web.model.response.TagsResponse;
+import org.example.realworldapi.application.web.resource.utils.EntityTags;
+import org.example.realworldapi.domain.service.TagService;
+import org.example.realworldapi.infrastructure.web.qualifiers.NoWrapRootValueObjectMapper;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+
+@ApplicationScoped
+@AllArgsConstructor
+public class TagsResponseLoader {
+
+  @NoWrapRootValueObjectMapper ObjectMapper objectMapper;
+  private final TagService tagService;
+  private final TagUsageRanking tagUsageRanking;
+
+  @ActivateRequestContext
+  public CachedResponse load() throws JsonProcessingException {
+    final var body = objectMapper.writeValueAsBytes(new TagsResponse(tagService.find()));
+    return new CachedResponse(body, EntityTags.of(body));
+  }
+
+  public CachedResponse loadTop(int limit) throws JsonProcessingException {
+    final var body =
+        objectMapper.writeValueAsBytes(TagsResponse.ofNames(tagUsageRanking.top(limit)));
+    return new CachedResponse(body, EntityTags.of(body));
+  }
+}
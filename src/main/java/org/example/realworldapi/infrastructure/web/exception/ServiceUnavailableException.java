@@ -0,0 +1,3 @@
+package org.example.realworldapi.infrastructure.web.exception;
+
+public class ServiceUnavailableException extends InfrastructureException {}
@@ -33,6 +33,10 @@ public class BusinessExceptionMapper implements ExceptionMapper<BusinessExceptio
     handlerMap.put(TagNotFoundException.class, this::notFound);
     handlerMap.put(ArticleNotFoundException.class, this::notFound);
     handlerMap.put(ModelValidationException.class, this::unprocessableEntity);
+    handlerMap.put(InvalidCursorException.class, this::unprocessableEntity);
+    handlerMap.put(InvalidCountModeException.class, this::unprocessableEntity);
+    handlerMap.put(SlugAlreadyExistsException.class, this::conflict);
+    handlerMap.put(TagAlreadyExistsException.class, this::conflict);
 
     return handlerMap;
   }
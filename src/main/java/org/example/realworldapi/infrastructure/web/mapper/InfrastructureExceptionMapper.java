@@ -3,6 +3,7 @@ package org.example.realworldapi.infrastructure.web.mapper;
 import org.example.realworldapi.application.web.model.response.ErrorResponse;
 import org.example.realworldapi.infrastructure.web.exception.ForbiddenException;
 import org.example.realworldapi.infrastructure.web.exception.InfrastructureException;
+import org.example.realworldapi.infrastructure.web.exception.ServiceUnavailableException;
 import org.example.realworldapi.infrastructure.web.exception.UnauthorizedException;
 
 import javax.ws.rs.core.Response;
@@ -31,6 +32,7 @@ public class InfrastructureExceptionMapper implements ExceptionMapper<Infrastruc
             Function<InfrastructureException, Response>>();
     exceptionMap.put(ForbiddenException.class, this::forbidden);
     exceptionMap.put(UnauthorizedException.class, this::unauthorized);
+    exceptionMap.put(ServiceUnavailableException.class, this::serviceUnavailable);
     return exceptionMap;
   }
 
@@ -46,6 +48,12 @@ public class InfrastructureExceptionMapper implements ExceptionMapper<Infrastruc
         .build();
   }
 
+  private Response serviceUnavailable(InfrastructureException infrastructureException) {
+    return Response.ok(errorResponse(Response.Status.SERVICE_UNAVAILABLE.toString()))
+        .status(Response.Status.SERVICE_UNAVAILABLE)
+        .build();
+  }
+
   private ErrorResponse errorResponse(String message) {
     return new ErrorResponse(message);
   }
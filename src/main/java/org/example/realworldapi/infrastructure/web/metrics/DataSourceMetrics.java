@@ -0,0 +1,68 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.quarkus.runtime.StartupEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+@ApplicationScoped
+public class DataSourceMetrics {
+
+  void onStart(
+      @Observes StartupEvent startupEvent,
+      AgroalDataSource dataSource,
+      MeterRegistry meterRegistry) {
+    final var metrics = dataSource.getMetrics();
+    gauge(
+        meterRegistry,
+        metrics,
+        "datasource.connections.active",
+        AgroalDataSourceMetrics::activeCount);
+    gauge(
+        meterRegistry,
+        metrics,
+        "datasource.connections.available",
+        AgroalDataSourceMetrics::availableCount);
+    gauge(
+        meterRegistry,
+        metrics,
+        "datasource.connections.max-used",
+        AgroalDataSourceMetrics::maxUsedCount);
+    gauge(
+        meterRegistry,
+        metrics,
+        "datasource.connections.awaiting",
+        AgroalDataSourceMetrics::awaitingCount);
+    FunctionCounter.builder(
+            "datasource.connections.acquired", metrics, AgroalDataSourceMetrics::acquireCount)
+        .register(meterRegistry);
+    TimeGauge.builder(
+            "datasource.connections.blocking.max",
+            metrics,
+            TimeUnit.MILLISECONDS,
+            value -> value.blockingTimeMax().toMillis())
+        .register(meterRegistry);
+    TimeGauge.builder(
+            "datasource.connections.blocking.total",
+            metrics,
+            TimeUnit.MILLISECONDS,
+            value -> value.blockingTimeTotal().toMillis())
+        .register(meterRegistry);
+  }
+
+  private void gauge(
+      MeterRegistry meterRegistry,
+      AgroalDataSourceMetrics metrics,
+      String name,
+      ToDoubleFunction<AgroalDataSourceMetrics> value) {
+    Gauge.builder(name, metrics, value).register(meterRegistry);
+  }
+}
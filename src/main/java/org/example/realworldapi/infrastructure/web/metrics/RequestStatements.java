@@ -0,0 +1,30 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+/**
+ * Counts the JDBC statements Hibernate prepares for the request being served on the current
+ * thread. Unlike the session factory statistics, the count only covers the sessions used by this
+ * request, so overlapping requests do not leak into each other's numbers.
+ */
+final class RequestStatements {
+
+  private static final ThreadLocal<long[]> STATEMENTS = new ThreadLocal<>();
+
+  private RequestStatements() {}
+
+  static void begin() {
+    STATEMENTS.set(new long[1]);
+  }
+
+  static long end() {
+    final var statements = STATEMENTS.get();
+    STATEMENTS.remove();
+    return statements != null ? statements[0] : 0;
+  }
+
+  static void increment() {
+    final var statements = STATEMENTS.get();
+    if (statements != null) {
+      statements[0]++;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.inject.Inject;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+public class ResourceMetricsFeature implements DynamicFeature {
+
+  private static final int PRIORITY = Priorities.AUTHENTICATION - 100;
+
+  @Inject MeterRegistry meterRegistry;
+
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext featureContext) {
+    featureContext.register(
+        new ResourceMetricsFilter(
+            meterRegistry,
+            resourceInfo.getResourceClass().getSimpleName(),
+            resourceInfo.getResourceMethod().getName()),
+        PRIORITY);
+  }
+}
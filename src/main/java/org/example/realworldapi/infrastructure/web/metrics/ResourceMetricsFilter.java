@@ -0,0 +1,87 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+
+/**
+ * Times a resource method until its response body has been written, so streamed bodies are part
+ * of the measured latency. Responses without a body are recorded by the response filter, the
+ * others by the writer interceptor once the entity is written.
+ */
+public class ResourceMetricsFilter
+    implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+  private static final String SAMPLE_PROPERTY = ResourceMetricsFilter.class.getName() + ".sample";
+  private static final String STATUS_PROPERTY = ResourceMetricsFilter.class.getName() + ".status";
+
+  private final MeterRegistry meterRegistry;
+  private final String resource;
+  private final String method;
+  private final DistributionSummary statementsSummary;
+
+  public ResourceMetricsFilter(MeterRegistry meterRegistry, String resource, String method) {
+    this.meterRegistry = meterRegistry;
+    this.resource = resource;
+    this.method = method;
+    this.statementsSummary =
+        DistributionSummary.builder("http.resource.sql.statements")
+            .tag("resource", resource)
+            .tag("method", method)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(SAMPLE_PROPERTY, Timer.start(meterRegistry));
+    RequestStatements.begin();
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    if (responseContext.hasEntity()) {
+      requestContext.setProperty(STATUS_PROPERTY, responseContext.getStatus());
+      return;
+    }
+    record((Timer.Sample) requestContext.getProperty(SAMPLE_PROPERTY), responseContext.getStatus());
+    requestContext.removeProperty(SAMPLE_PROPERTY);
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    try {
+      context.proceed();
+    } finally {
+      final var status = (Integer) context.getProperty(STATUS_PROPERTY);
+      if (status != null) {
+        record((Timer.Sample) context.getProperty(SAMPLE_PROPERTY), status);
+        context.removeProperty(SAMPLE_PROPERTY);
+        context.removeProperty(STATUS_PROPERTY);
+      }
+    }
+  }
+
+  private void record(Timer.Sample sample, int status) {
+    if (sample == null) {
+      return;
+    }
+    sample.stop(
+        Timer.builder("http.resource.requests")
+            .tag("resource", resource)
+            .tag("method", method)
+            .tag("status", String.valueOf(status))
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    statementsSummary.record(RequestStatements.end());
+  }
+}
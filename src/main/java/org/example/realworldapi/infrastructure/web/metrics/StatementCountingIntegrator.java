@@ -0,0 +1,30 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Attaches {@link StatementCountingListener} to every session. Quarkus picks integrators up from
+ * {@code META-INF/services}, while it offers no configuration property for session listeners or
+ * statement inspectors.
+ */
+public class StatementCountingIntegrator implements Integrator {
+
+  @Override
+  @SuppressWarnings("deprecation")
+  public void integrate(
+      Metadata metadata,
+      SessionFactoryImplementor sessionFactory,
+      SessionFactoryServiceRegistry serviceRegistry) {
+    sessionFactory
+        .getSessionFactoryOptions()
+        .getBaselineSessionEventsListenerBuilder()
+        .setAutoListener(StatementCountingListener.class);
+  }
+
+  @Override
+  public void disintegrate(
+      SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+}
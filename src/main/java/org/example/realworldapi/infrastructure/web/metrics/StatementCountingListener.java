@@ -0,0 +1,12 @@
+package org.example.realworldapi.infrastructure.web.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/** Instantiated by Hibernate for every session it opens. */
+public class StatementCountingListener extends BaseSessionEventListener {
+
+  @Override
+  public void jdbcPrepareStatementStart() {
+    RequestStatements.increment();
+  }
+}
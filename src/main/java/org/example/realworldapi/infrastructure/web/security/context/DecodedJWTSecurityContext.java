@@ -1,31 +1,28 @@
 package org.example.realworldapi.infrastructure.web.security.context;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
-import org.example.realworldapi.infrastructure.web.provider.TokenProvider;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedToken;
 
 import javax.ws.rs.core.SecurityContext;
 import java.security.Principal;
+import java.util.Set;
 
 public class DecodedJWTSecurityContext implements SecurityContext {
 
-  private final DecodedJWT decodedJWT;
-  private final TokenProvider tokenProvider;
+  private final VerifiedToken verifiedToken;
 
-  public DecodedJWTSecurityContext(DecodedJWT decodedJWT, TokenProvider tokenProvider) {
-    this.decodedJWT = decodedJWT;
-    this.tokenProvider = tokenProvider;
+  public DecodedJWTSecurityContext(VerifiedToken verifiedToken) {
+    this.verifiedToken = verifiedToken;
   }
 
   @Override
   public Principal getUserPrincipal() {
-    return decodedJWT::getSubject;
+    return verifiedToken::getSubject;
   }
 
   @Override
   public boolean isUserInRole(String role) {
-    Role[] tokenRoles = tokenProvider.extractRoles(decodedJWT);
-    for (Role tokenRole : tokenRoles) {
+    for (Role tokenRole : verifiedToken.getRoles()) {
       if (role.equals(tokenRole.name())) {
         return true;
       }
@@ -33,6 +30,15 @@ public class DecodedJWTSecurityContext implements SecurityContext {
     return false;
   }
 
+  public boolean isUserInAnyRole(Set<Role> roles) {
+    for (Role role : roles) {
+      if (verifiedToken.getRoles().contains(role)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public boolean isSecure() {
     return false;
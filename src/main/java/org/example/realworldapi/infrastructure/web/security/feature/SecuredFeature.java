@@ -0,0 +1,31 @@
+package org.example.realworldapi.infrastructure.web.security.feature;
+
+import org.example.realworldapi.infrastructure.web.security.filter.AuthenticationFilter;
+import org.example.realworldapi.infrastructure.web.security.filter.AuthorizationFilter;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedTokenCache;
+
+import javax.inject.Inject;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+@Provider
+public class SecuredFeature implements DynamicFeature {
+
+  @Inject VerifiedTokenCache verifiedTokenCache;
+
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext featureContext) {
+    SecurityDescriptor.of(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod())
+        .ifPresent(
+            securityDescriptor -> {
+              featureContext.register(
+                  new AuthenticationFilter(verifiedTokenCache, securityDescriptor),
+                  Priorities.AUTHENTICATION);
+              featureContext.register(
+                  new AuthorizationFilter(securityDescriptor), Priorities.AUTHORIZATION);
+            });
+  }
+}
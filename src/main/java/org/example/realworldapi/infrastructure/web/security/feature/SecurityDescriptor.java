@@ -0,0 +1,40 @@
+package org.example.realworldapi.infrastructure.web.security.feature;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class SecurityDescriptor {
+  private final boolean optional;
+  private final Set<Role> roles;
+
+  public static Optional<SecurityDescriptor> of(Class<?> resourceClass, Method resourceMethod) {
+    final var classSecured = resourceClass.getAnnotation(Secured.class);
+    final var methodSecured = resourceMethod.getAnnotation(Secured.class);
+
+    if (classSecured == null && methodSecured == null) {
+      return Optional.empty();
+    }
+
+    final var optional =
+        methodSecured != null ? methodSecured.optional() : classSecured.optional();
+    final var roles = EnumSet.noneOf(Role.class);
+    if (methodSecured != null) {
+      roles.addAll(Arrays.asList(methodSecured.value()));
+    }
+    if (roles.isEmpty() && classSecured != null) {
+      roles.addAll(Arrays.asList(classSecured.value()));
+    }
+    return Optional.of(new SecurityDescriptor(optional, Collections.unmodifiableSet(roles)));
+  }
+}
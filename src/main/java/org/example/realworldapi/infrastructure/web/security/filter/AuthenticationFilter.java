@@ -1,36 +1,31 @@
 package org.example.realworldapi.infrastructure.web.security.filter;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import org.example.realworldapi.infrastructure.web.exception.UnauthorizedException;
-import org.example.realworldapi.infrastructure.web.provider.TokenProvider;
-import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 import org.example.realworldapi.infrastructure.web.security.context.DecodedJWTSecurityContext;
 import org.example.realworldapi.infrastructure.web.security.context.EmptySecurityContext;
+import org.example.realworldapi.infrastructure.web.security.feature.SecurityDescriptor;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedToken;
+import org.example.realworldapi.infrastructure.web.security.token.VerifiedTokenCache;
 
-import javax.annotation.Priority;
-import javax.inject.Inject;
-import javax.ws.rs.Priorities;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
-import javax.ws.rs.container.ResourceInfo;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
-import javax.ws.rs.ext.Provider;
 import java.io.IOException;
-import java.lang.reflect.Method;
 
-@Secured
-@Provider
-@Priority(Priorities.AUTHENTICATION)
 public class AuthenticationFilter implements ContainerRequestFilter {
 
   private final String AUTHORIZATION_HEADER_PREFIX = "Token ";
 
-  @Inject TokenProvider tokenProvider;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final SecurityDescriptor securityDescriptor;
 
-  @Context private ResourceInfo resourceInfo;
+  public AuthenticationFilter(
+      VerifiedTokenCache verifiedTokenCache, SecurityDescriptor securityDescriptor) {
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.securityDescriptor = securityDescriptor;
+  }
 
   @Override
   public void filter(ContainerRequestContext containerRequestContext) throws IOException {
@@ -44,10 +39,9 @@ public class AuthenticationFilter implements ContainerRequestFilter {
 
       try {
 
-        DecodedJWT decodedJWT = tokenProvider.verify(token);
+        VerifiedToken verifiedToken = verifiedTokenCache.verify(token);
 
-        containerRequestContext.setSecurityContext(
-            new DecodedJWTSecurityContext(decodedJWT, tokenProvider));
+        containerRequestContext.setSecurityContext(new DecodedJWTSecurityContext(verifiedToken));
 
       } catch (JWTVerificationException ex) {
         containerRequestContext.abortWith(
@@ -59,27 +53,9 @@ public class AuthenticationFilter implements ContainerRequestFilter {
 
       containerRequestContext.setSecurityContext(new EmptySecurityContext());
 
-      if (!isSecurityOptional()) {
+      if (!securityDescriptor.isOptional()) {
         throw new UnauthorizedException();
       }
     }
   }
-
-  private boolean isSecurityOptional() {
-
-    Class<?> resourceClass = resourceInfo.getResourceClass();
-    Method resourceMethod = resourceInfo.getResourceMethod();
-    Secured resourceClassSecured = resourceClass.getAnnotation(Secured.class);
-    Secured resourceMethodSecured = resourceMethod.getAnnotation(Secured.class);
-
-    if (resourceMethodSecured != null) {
-      return resourceMethodSecured.optional();
-    }
-
-    if (resourceClassSecured != null) {
-      return resourceClassSecured.optional();
-    }
-
-    return false;
-  }
 }
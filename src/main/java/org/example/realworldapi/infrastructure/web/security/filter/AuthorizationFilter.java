@@ -1,78 +1,38 @@
 package org.example.realworldapi.infrastructure.web.security.filter;
 
+import org.example.realworldapi.infrastructure.web.security.context.DecodedJWTSecurityContext;
+import org.example.realworldapi.infrastructure.web.security.feature.SecurityDescriptor;
 import org.example.realworldapi.infrastructure.web.security.profile.Role;
-import org.example.realworldapi.infrastructure.web.exception.ForbiddenException;
-import org.example.realworldapi.infrastructure.web.security.annotation.Secured;
 
-import javax.annotation.Priority;
-import javax.ws.rs.Priorities;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
-import javax.ws.rs.container.ResourceInfo;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
-import javax.ws.rs.ext.Provider;
 import java.io.IOException;
-import java.lang.reflect.AnnotatedElement;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Set;
 
-@Secured
-@Provider
-@Priority(Priorities.AUTHORIZATION)
 public class AuthorizationFilter implements ContainerRequestFilter {
 
-  @Context private ResourceInfo resourceInfo;
+  private final SecurityDescriptor securityDescriptor;
 
-  @Override
-  public void filter(ContainerRequestContext containerRequestContext) throws IOException {
-
-    Class<?> resourceClass = resourceInfo.getResourceClass();
-    Method resourceMethod = resourceInfo.getResourceMethod();
-
-    if (!isSecurityOptional(resourceMethod, resourceClass)) {
-      SecurityContext securityContext = containerRequestContext.getSecurityContext();
-
-      List<Role> classRoles = extractRoles(resourceClass);
-      List<Role> methodRoles = extractRoles(resourceMethod);
-
-      try {
-        if (methodRoles.isEmpty()) {
-          checkPermissions(classRoles, securityContext);
-        } else {
-          checkPermissions(methodRoles, securityContext);
-        }
-      } catch (Exception ex) {
-        containerRequestContext.abortWith(Response.status(Response.Status.FORBIDDEN).build());
-      }
-    }
+  public AuthorizationFilter(SecurityDescriptor securityDescriptor) {
+    this.securityDescriptor = securityDescriptor;
   }
 
-  private boolean isSecurityOptional(Method resourceMethod, Class<?> resourceClass) {
-    Secured resourceClassSecured = resourceClass.getAnnotation(Secured.class);
-    Secured resourceMethodSecured = resourceMethod.getAnnotation(Secured.class);
-
-    if (resourceMethodSecured != null) {
-      return resourceMethodSecured.optional();
-    }
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) throws IOException {
 
-    if (resourceClassSecured != null) {
-      return resourceClassSecured.optional();
+    if (!securityDescriptor.isOptional()
+        && !isAccessAllowed(
+            securityDescriptor.getRoles(), containerRequestContext.getSecurityContext())) {
+      containerRequestContext.abortWith(Response.status(Response.Status.FORBIDDEN).build());
     }
-
-    return false;
   }
 
-  private void checkPermissions(List<Role> allowedRoles, SecurityContext securityContext) {
-    if (!isAccessAllowed(allowedRoles, securityContext)) {
-      throw new ForbiddenException();
+  private boolean isAccessAllowed(Set<Role> allowedRoles, SecurityContext securityContext) {
+    if (securityContext instanceof DecodedJWTSecurityContext) {
+      return ((DecodedJWTSecurityContext) securityContext).isUserInAnyRole(allowedRoles);
     }
-  }
-
-  private boolean isAccessAllowed(List<Role> allowedRoles, SecurityContext securityContext) {
     for (Role allowedRole : allowedRoles) {
       if (securityContext.isUserInRole(allowedRole.name())) {
         return true;
@@ -80,17 +40,4 @@ public class AuthorizationFilter implements ContainerRequestFilter {
     }
     return false;
   }
-
-  private List<Role> extractRoles(AnnotatedElement annotatedElement) {
-    if (annotatedElement == null) {
-      return new LinkedList<>();
-    } else {
-      Secured secured = annotatedElement.getAnnotation(Secured.class);
-      if (secured == null) {
-        return new LinkedList<>();
-      } else {
-        return Arrays.asList(secured.value());
-      }
-    }
-  }
 }
@@ -0,0 +1,16 @@
+package org.example.realworldapi.infrastructure.web.security.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import java.time.Instant;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+  private final String subject;
+  private final Set<Role> roles;
+  private final Instant expiresAt;
+}
@@ -0,0 +1,95 @@
+package org.example.realworldapi.infrastructure.web.security.token;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.infrastructure.web.provider.TokenProvider;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+  private static final String CACHE_NAME = "jwt";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final TokenProvider tokenProvider;
+  private final Cache<ByteBuffer, VerifiedToken> cache;
+  private final Timer verifyTimer;
+
+  public VerifiedTokenCache(
+      TokenProvider tokenProvider,
+      MeterRegistry meterRegistry,
+      @ConfigProperty(name = "jwt.cache.maximum-size") long maximumSize) {
+    this.tokenProvider = tokenProvider;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new ExpiresAtExpiry())
+            .recordStats()
+            .build();
+    this.verifyTimer =
+        Timer.builder("jwt.verify").publishPercentileHistogram().register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public VerifiedToken verify(String token) {
+    return cache.get(
+        digest(token), key -> verifyTimer.record(() -> verifiedToken(tokenProvider.verify(token))));
+  }
+
+  private VerifiedToken verifiedToken(DecodedJWT decodedJWT) {
+    final var roles = EnumSet.noneOf(Role.class);
+    roles.addAll(Arrays.asList(tokenProvider.extractRoles(decodedJWT)));
+    final var expiresAt = decodedJWT.getExpiresAt();
+    return new VerifiedToken(
+        decodedJWT.getSubject(), roles, expiresAt != null ? expiresAt.toInstant() : null);
+  }
+
+  private ByteBuffer digest(String token) {
+    try {
+      return ByteBuffer.wrap(
+          MessageDigest.getInstance(DIGEST_ALGORITHM)
+              .digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static class ExpiresAtExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+      if (value.getExpiresAt() == null) {
+        return Long.MAX_VALUE;
+      }
+      return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(
+        ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,13 +1,27 @@
 package org.example.realworldapi;
 
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.slugify.Slugify;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.example.realworldapi.domain.model.utils.LookupKeys;
 import org.example.realworldapi.infrastructure.repository.hibernate.entity.*;
+import org.example.realworldapi.infrastructure.repository.hibernate.panache.utils.PageCountCache;
+import org.example.realworldapi.infrastructure.search.InMemoryArticleSearchIndex;
+import org.example.realworldapi.infrastructure.web.cache.ArticlesResponseCache;
+import org.example.realworldapi.infrastructure.web.cache.TagUsageRanking;
+import org.example.realworldapi.infrastructure.web.cache.TagsResponseCache;
 import org.example.realworldapi.infrastructure.web.provider.TokenProvider;
+import org.example.realworldapi.infrastructure.web.security.profile.Role;
+import org.example.realworldapi.util.StatementCountingDriver;
 import org.example.realworldapi.util.UserEntityUtils;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 
 import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -17,10 +31,41 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
   @Inject protected ObjectMapper objectMapper;
   @Inject protected TokenProvider tokenProvider;
   @Inject protected Slugify slugify;
+  @Inject protected TagsResponseCache tagsResponseCache;
+  @Inject protected ArticlesResponseCache articlesResponseCache;
+  @Inject protected PageCountCache pageCountCache;
+  @Inject protected InMemoryArticleSearchIndex articleSearchIndex;
+  @Inject protected TagUsageRanking tagUsageRanking;
+  @Inject protected EntityManagerFactory applicationEntityManagerFactory;
+
+  @Inject
+  @ConfigProperty(name = "jwt.issuer")
+  String jwtIssuer;
+
+  @Inject
+  @ConfigProperty(name = "jwt.secret")
+  String jwtSecret;
 
   @BeforeEach
   public void beforeEach() {
     clear();
+    tagsResponseCache.invalidate();
+    articlesResponseCache.invalidate();
+    pageCountCache.invalidateAll();
+    articleSearchIndex.rebuild();
+    tagUsageRanking.reload();
+    applicationEntityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+  }
+
+  protected void assertStatementBudget(long budget, Runnable request) {
+    final var before = StatementCountingDriver.executedStatements();
+    request.run();
+    final var statements = StatementCountingDriver.executedStatements() - before;
+    Assertions.assertTrue(
+        statements <= budget,
+        () ->
+            String.format(
+                "expected at most %d SQL statements but %d were executed", budget, statements));
   }
 
   protected UserEntity createUserEntity(
@@ -37,6 +82,14 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
     return tokenProvider.createUserToken(userEntity.getId().toString());
   }
 
+  protected String adminToken(UserEntity userEntity) {
+    return JWT.create()
+        .withIssuer(jwtIssuer)
+        .withSubject(userEntity.getId().toString())
+        .withArrayClaim("ROLES", new String[] {Role.ADMIN.name()})
+        .sign(Algorithm.HMAC512(jwtSecret));
+  }
+
   protected void follow(UserEntity currentUser, UserEntity... followers) {
 
     transaction(
@@ -51,6 +104,14 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
             FollowRelationshipEntity followRelationshipEntity = new FollowRelationshipEntity();
             followRelationshipEntity.setPrimaryKey(key);
             entityManager.persist(followRelationshipEntity);
+            entityManager.flush();
+
+            entityManager
+                .createNativeQuery(
+                    "insert into TIMELINE (user_id, article_id, created_at) select :userId, id, createdAt from ARTICLES where author_id = :followedId")
+                .setParameter("userId", user.getId())
+                .setParameter("followedId", follower.getId())
+                .executeUpdate();
           }
 
           entityManager.persist(user);
@@ -118,7 +179,7 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
           final var article = new ArticleEntity();
           article.setId(UUID.randomUUID());
           article.setTitle(title);
-          article.setSlug(slugify.slugify(title));
+          article.setSlug(uniqueSlug(title));
           article.setDescription(description);
           article.setBody(body);
           article.setAuthor(author);
@@ -140,6 +201,11 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
         () -> {
           final var favoriteRelationshipEntity = favoriteRelationshipEntity(article, user);
           entityManager.persist(favoriteRelationshipEntity);
+          entityManager
+              .createQuery(
+                  "update ArticleEntity set favoritesCount = favoritesCount + 1 where id = :id")
+              .setParameter("id", article.getId())
+              .executeUpdate();
           return favoriteRelationshipEntity;
         });
   }
@@ -158,6 +224,18 @@ public class AbstractIntegrationTest extends DatabaseIntegrationTest {
   }
   ;
 
+  private String uniqueSlug(String title) {
+    final var slug = slugify.slugify(title);
+    final var existentSlugs =
+        entityManager
+            .createQuery(
+                "select count(articles) from ArticleEntity as articles where articles.slugKey = :slugKey",
+                Long.class)
+            .setParameter("slugKey", LookupKeys.key(slug))
+            .getSingleResult();
+    return existentSlugs > 0 ? slug + UUID.randomUUID() : slug;
+  }
+
   private FavoriteRelationshipEntity favoriteRelationshipEntity(
       ArticleEntity article, UserEntity loggedUser) {
     final var favoriteRelationshipEntityKey = favoriteRelationshipEntityKey(article, loggedUser);
@@ -5,4 +5,5 @@ public class TestConstants {
   public static final String AUTHORIZATION_HEADER_VALUE_PREFIX = "Token ";
   public static final String AUTHORIZATION_HEADER = "Authorization";
   public static final String API_PREFIX = "/api";
+  public static final String METRICS_PATH = "/metrics";
 }
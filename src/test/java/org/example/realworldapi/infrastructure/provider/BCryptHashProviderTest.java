@@ -0,0 +1,58 @@
+package org.example.realworldapi.infrastructure.provider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+public class BCryptHashProviderTest {
+
+  private final BCryptHashProvider hashProvider = hashProvider(5);
+
+  @AfterEach
+  public void afterEach() {
+    hashProvider.shutdown();
+  }
+
+  @Test
+  public void givenHashWithConfiguredCost_whenCheckNeedsRehash_shouldReturnFalse() {
+
+    final var hashed = hashProvider.hashPassword("password");
+
+    Assertions.assertTrue(hashed.startsWith("$2a$05$"));
+    Assertions.assertFalse(hashProvider.needsRehash(hashed));
+  }
+
+  @Test
+  public void givenHashWithOtherCost_whenCheckNeedsRehash_shouldReturnTrue() {
+
+    final var hashed = BCrypt.hashpw("password", BCrypt.gensalt(4));
+
+    Assertions.assertTrue(hashProvider.checkPassword("password", hashed));
+    Assertions.assertTrue(hashProvider.needsRehash(hashed));
+    Assertions.assertFalse(hashProvider.needsRehash(hashProvider.hashPassword("password")));
+  }
+
+  @Test
+  public void givenHashWithoutMinorVersion_whenCheckNeedsRehash_shouldReadItsCost() {
+
+    final var hashed = BCrypt.hashpw("password", BCrypt.gensalt(5).replace("$2a$", "$2$"));
+
+    Assertions.assertTrue(hashProvider.checkPassword("password", hashed));
+    Assertions.assertFalse(hashProvider.needsRehash(hashed));
+  }
+
+  @Test
+  public void givenMalformedHash_whenCheckPasswordAndNeedsRehash_shouldRejectAndRequireRehash() {
+
+    for (String hashed : new String[] {"password", "$2a$x5$", "$2y$05$" + "a".repeat(53)}) {
+      Assertions.assertFalse(hashProvider.checkPassword("password", hashed));
+      Assertions.assertTrue(hashProvider.needsRehash(hashed));
+    }
+  }
+
+  private static BCryptHashProvider hashProvider(int logRounds) {
+    return new BCryptHashProvider(logRounds, 16, new SimpleMeterRegistry());
+  }
+}
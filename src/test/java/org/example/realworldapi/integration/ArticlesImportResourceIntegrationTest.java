@@ -0,0 +1,221 @@
+package org.example.realworldapi.integration;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.util.ArticleChangedHook;
+import org.junit.jupiter.api.Test;
+
+import javax.inject.Inject;
+import javax.ws.rs.core.MediaType;
+import java.nio.charset.StandardCharsets;
+
+import static io.restassured.RestAssured.given;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class ArticlesImportResourceIntegrationTest extends AbstractIntegrationTest {
+
+  private final String IMPORT_PATH = API_PREFIX + "/admin/articles/import";
+  private final String ARTICLES_PATH = API_PREFIX + "/articles";
+  private final String FEED_PATH = ARTICLES_PATH + "/feed";
+  private final String NDJSON = "application/x-ndjson";
+
+  @Inject ArticleChangedHook articleChangedHook;
+
+  @Test
+  public void givenNdjsonArticles_whenExecuteImportEndpoint_shouldImportValidLinesInChunks() {
+
+    final var admin = createUserEntity("admin", "admin@mail.com", "bio", "image", "admin123");
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+    final var follower =
+        createUserEntity("follower", "follower@mail.com", "bio", "image", "follower123");
+    follow(follower, author);
+    createTagEntity("existent");
+
+    final var lines =
+        String.join(
+            "\n",
+            line("AUTHOR", "Title", "\"existent\", \"new\""),
+            line("author", "Title", "\"NEW\""),
+            "{not json",
+            line("unknown", "Other", "\"new\""),
+            line("author", "Another", ""));
+
+    given()
+        .contentType(NDJSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+        .body(ndjson(lines))
+        .post(IMPORT_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "import.importId",
+            notNullValue(),
+            "import.skipped",
+            is(0),
+            "import.imported",
+            is(3),
+            "import.rejected",
+            is(2),
+            "import",
+            hasKey("articlesPerSecond"));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", "new")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articlesCount",
+            is(2),
+            "articles.slug",
+            hasItem("title"),
+            "articles.author.username",
+            everyItem(is(author.getUsername())));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(follower))
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articlesCount", is(3));
+  }
+
+  @Test
+  public void givenInterruptedImport_whenExecuteImportEndpointAgain_shouldResumeFromCheckpoint() {
+
+    final var admin = createUserEntity("admin", "admin@mail.com", "bio", "image", "admin123");
+    createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    final var firstLines =
+        String.join("\n", line("author", "Title 1", ""), line("author", "Title 2", ""));
+    final var allLines =
+        String.join(
+            "\n", firstLines, line("author", "Title 3", ""), line("author", "Title 4", ""));
+
+    given()
+        .contentType(NDJSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+        .queryParam("importId", "migration")
+        .body(ndjson(firstLines))
+        .post(IMPORT_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("import.imported", is(2));
+
+    given()
+        .contentType(NDJSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+        .queryParam("importId", "migration")
+        .body(ndjson(allLines))
+        .post(IMPORT_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("import.importId", is("migration"), "import.skipped", is(2), "import.imported", is(2));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articlesCount", is(4));
+  }
+
+  @Test
+  public void givenSlugTakenBeforeImport_whenExecuteImportEndpoint_shouldImportWithUniqueSlug() {
+
+    final var admin = createUserEntity("admin", "admin@mail.com", "bio", "image", "admin123");
+    createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    for (String importId : new String[] {"first", "second"}) {
+      given()
+          .contentType(NDJSON)
+          .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+          .queryParam("importId", importId)
+          .body(ndjson(line("author", "Title", "")))
+          .post(IMPORT_PATH)
+          .then()
+          .statusCode(HttpStatus.SC_OK)
+          .body("import.imported", is(1), "import.rejected", is(0));
+    }
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articlesCount",
+            is(2),
+            "articles.slug",
+            hasItem("title"),
+            "articles.slug",
+            hasItem(allOf(startsWith("title"), not(equalTo("title")))));
+  }
+
+  @Test
+  public void givenTagCreatedBetweenChunks_whenExecuteImportEndpoint_shouldReuseTheCreatedTag() {
+
+    final var admin = createUserEntity("admin", "admin@mail.com", "bio", "image", "admin123");
+    createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+    articleChangedHook.runOnNextChange(() -> createTagEntity("late"));
+
+    final var lines =
+        String.join(
+            "\n",
+            line("author", "Title 1", ""),
+            line("author", "Title 2", ""),
+            line("author", "Title 3", "\"LATE\""));
+
+    given()
+        .contentType(NDJSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+        .body(ndjson(lines))
+        .post(IMPORT_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("import.imported", is(3), "import.rejected", is(0));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", "late")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articlesCount",
+            is(1),
+            "articles[0].slug",
+            is("title-3"),
+            "articles[0].tagList",
+            contains("late"));
+  }
+
+  @Test
+  public void shouldReturn403WhenExecuteImportEndpointWithUserRole() {
+
+    final var user = createUserEntity("user", "user@mail.com", "bio", "image", "user123");
+
+    given()
+        .contentType(NDJSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(user))
+        .body(ndjson(line("user", "Title", "")))
+        .post(IMPORT_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_FORBIDDEN);
+  }
+
+  private String line(String author, String title, String tags) {
+    return String.format(
+        "{\"author\": \"%s\", \"title\": \"%s\", \"description\": \"Description\", \"body\": \"Body\", \"tagList\": [%s]}",
+        author, title, tags);
+  }
+
+  private byte[] ndjson(String lines) {
+    return lines.getBytes(StandardCharsets.UTF_8);
+  }
+}
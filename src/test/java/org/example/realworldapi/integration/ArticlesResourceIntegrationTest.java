@@ -7,15 +7,28 @@ import org.example.realworldapi.AbstractIntegrationTest;
 import org.example.realworldapi.application.web.model.request.NewArticleRequest;
 import org.example.realworldapi.application.web.model.request.NewCommentRequest;
 import org.example.realworldapi.application.web.model.request.UpdateArticleRequest;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.restassured.RestAssured.given;
 import static org.example.realworldapi.constants.TestConstants.*;
 import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasKey;
 
 @QuarkusTest
@@ -23,6 +36,13 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
 
   private final String ARTICLES_PATH = API_PREFIX + "/articles";
   private final String FEED_PATH = ARTICLES_PATH + "/feed";
+  private final long ARTICLES_STATEMENT_BUDGET = 6;
+  private final long FEED_STATEMENT_BUDGET = 7;
+  private final long COMMENTS_STATEMENT_BUDGET = 4;
+  private final long NOT_MODIFIED_ARTICLE_STATEMENT_BUDGET = 1;
+  private final long NOT_MODIFIED_COMMENTS_STATEMENT_BUDGET = 2;
+  private final long CREATE_ARTICLE_STATEMENT_BUDGET = 13;
+  private final long CACHED_ARTICLES_STATEMENT_BUDGET = 0;
 
   @Test
   public void shouldReturn401WhenExecuteFeedEndpointWithoutAuthorization() {
@@ -253,6 +273,217 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             is(20));
   }
 
+  @Test
+  public void
+      givenFavoritedArticleFromFollowedUser_whenExecuteFeedEndpoint_shouldReturnFavoritedAndFollowingFlags() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var follower1 =
+        createUserEntity("follower1", "follower1@mail.com", "bio", "image", "follower1_123");
+
+    final var articles = createArticles(follower1, "Title", "Description", "Body", 3);
+
+    follow(loggedUser, follower1);
+
+    favorite(articles.get(0), loggedUser);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .queryParam("offset", 0)
+        .queryParam("limit", 10)
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(3),
+            "articles.findAll { it.favorited }.slug",
+            hasItem(articles.get(0).getSlug()),
+            "articles.findAll { it.favorited }.size()",
+            is(1),
+            "articles.findAll { it.favoritesCount == 1 }.size()",
+            is(1),
+            "articles.findAll { it.author.following }.size()",
+            is(3),
+            "articlesCount",
+            is(3));
+  }
+
+  @Test
+  public void
+      givenFollowedAuthor_whenAuthorCreatesArticle_shouldReturnArticleInFollowerFeed()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .post(API_PREFIX + "/profiles/" + author.getUsername() + "/follow")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    final var newArticleRequest = createNewArticle("Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(1),
+            "articles[0].title",
+            is(newArticleRequest.getTitle()),
+            "articlesCount",
+            is(1));
+  }
+
+  @Test
+  public void
+      givenFollowedAuthorAboveFanOutLimit_whenAuthorCreatesArticle_shouldReturnArticleInFollowerFeed()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var otherUser = createUserEntity("other", "other@mail.com", "bio", "image", "other123");
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    final var existentArticles = createArticles(author, "Title", "Description", "Body", 2);
+
+    for (var follower : new UserEntity[] {loggedUser, otherUser}) {
+      given()
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(follower))
+          .post(API_PREFIX + "/profiles/" + author.getUsername() + "/follow")
+          .then()
+          .statusCode(HttpStatus.SC_OK);
+    }
+
+    final var newArticleRequest = createNewArticle("New Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .queryParam("limit", 10)
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(3),
+            "articles[0].title",
+            is(newArticleRequest.getTitle()),
+            "articles.slug",
+            hasItems(existentArticles.get(0).getSlug(), existentArticles.get(1).getSlug()),
+            "articlesCount",
+            is(3));
+  }
+
+  @Test
+  public void
+      givenAuthorDroppingBelowFanOutLimit_whenExecuteFeedEndpoint_shouldKeepArticlesPublishedAboveLimit()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var otherUser = createUserEntity("other", "other@mail.com", "bio", "image", "other123");
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    for (var follower : new UserEntity[] {loggedUser, otherUser}) {
+      given()
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(follower))
+          .post(API_PREFIX + "/profiles/" + author.getUsername() + "/follow")
+          .then()
+          .statusCode(HttpStatus.SC_OK);
+    }
+
+    final var newArticleRequest = createNewArticle("Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(otherUser))
+        .delete(API_PREFIX + "/profiles/" + author.getUsername() + "/follow")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(1),
+            "articles[0].title",
+            is(newArticleRequest.getTitle()),
+            "articlesCount",
+            is(1));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(otherUser))
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(0));
+  }
+
+  @Test
+  public void
+      given101Articles_whenExecuteGlobalArticlesEndpointWithLimitAboveMaximum_shouldReturn100Articles() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 101);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("limit", 500)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(100), "articlesCount", is(101), "nextCursor", notNullValue());
+  }
+
   @Test
   public void
       given10ArticlesWithDifferentTags_whenExecuteGlobalArticlesEndpoint_shouldReturn5Articles() {
@@ -305,6 +536,160 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             is(5));
   }
 
+  @Test
+  public void
+      given5Articles_whenExecuteGlobalArticlesEndpointFollowingNextCursor_shouldReturnEveryArticleOnce() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 5);
+
+    final var slugs = new HashSet<String>();
+    String cursor = null;
+
+    for (int expectedPageSize : new int[] {2, 2, 1}) {
+      final var request =
+          given().contentType(MediaType.APPLICATION_JSON).queryParam("limit", 2);
+      if (cursor != null) {
+        request.queryParam("cursor", cursor);
+      }
+      final var response =
+          request
+              .get(ARTICLES_PATH)
+              .then()
+              .statusCode(HttpStatus.SC_OK)
+              .body("articles.size()", is(expectedPageSize), "articlesCount", is(5))
+              .extract()
+              .jsonPath();
+      slugs.addAll(response.getList("articles.slug", String.class));
+      cursor = response.getString("nextCursor");
+    }
+
+    Assertions.assertEquals(5, slugs.size());
+    Assertions.assertNull(cursor);
+  }
+
+  @Test
+  public void shouldReturn422WhenExecuteGlobalArticlesEndpointWithInvalidCursor() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("cursor", "invalid")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("invalid cursor"));
+  }
+
+  @Test
+  public void
+      given3Articles_whenExecuteGlobalArticlesEndpointWithCountNone_shouldOmitArticlesCount() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 3);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("limit", 2)
+        .queryParam("count", "none")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(2),
+            "$",
+            not(hasKey("articlesCount")),
+            "countMode",
+            is("none"),
+            "hasMore",
+            is(true),
+            "nextCursor",
+            notNullValue());
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("limit", 3)
+        .queryParam("count", "none")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(3), "hasMore", is(false), "nextCursor", nullValue());
+  }
+
+  @Test
+  public void
+      given3Articles_whenExecuteGlobalArticlesEndpointWithCountEstimated_shouldReturnEstimatedCount() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 3);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("count", "estimated")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(3),
+            "articlesCount",
+            notNullValue(),
+            "countMode",
+            is("estimated"));
+  }
+
+  @Test
+  public void
+      givenArticlesWithTag_whenExecuteGlobalArticlesEndpointWithCountEstimatedAndTagFilter_shouldReturnCachedCount() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var articles = createArticles(loggedUser, "Title", "Description", "Body", 3);
+
+    final var tag = createTagEntity("Tag 1");
+
+    createArticlesTags(articles, tag);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag.getName())
+        .queryParam("count", "estimated")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articlesCount", is(3), "countMode", is("cached"));
+
+    createArticlesTags(createArticles(loggedUser, "Other", "Description", "Body", 1), tag);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag.getName())
+        .queryParam("count", "cached")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(4), "articlesCount", is(3), "countMode", is("cached"));
+  }
+
+  @Test
+  public void shouldReturn422WhenExecuteGlobalArticlesEndpointWithInvalidCountMode() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("count", "invalid")
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("invalid count mode"));
+  }
+
   @Test
   public void shouldReturn401WhenExecuteCreateArticleEndpointWithoutToken() {
 
@@ -430,6 +815,31 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             is(article.getBody()));
   }
 
+  @Test
+  public void
+      givenExistentArticle_whenExecuteGetArticleBySlugEndpointWithDifferentCase_shouldReturnArticle() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug().toUpperCase())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.slug", is(article.getSlug()));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("author", loggedUser.getUsername().toUpperCase())
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(1), "articlesCount", is(1));
+  }
+
   @Test
   public void
       givenExistentArticle_whenExecuteUpdateArticleEndpoint_shouldReturnUpdatedArticleWithStatusCode200()
@@ -440,8 +850,51 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
 
     final var updateArticleRequest = new UpdateArticleRequest();
     updateArticleRequest.setTitle("updated title");
-    updateArticleRequest.setDescription("updated description");
-    updateArticleRequest.setBody("updated body");
+    updateArticleRequest.setDescription("updated description");
+    updateArticleRequest.setBody("updated body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .body(objectMapper.writeValueAsString(updateArticleRequest))
+        .pathParam("slug", article.getSlug())
+        .put(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "article.title",
+            is(updateArticleRequest.getTitle()),
+            "article.description",
+            is(updateArticleRequest.getDescription()),
+            "article.body",
+            is(updateArticleRequest.getBody()));
+
+    final var updatedArticleEntity = findArticleEntityById(article.getId());
+
+    Assertions.assertEquals(updateArticleRequest.getTitle(), updatedArticleEntity.getTitle());
+    Assertions.assertEquals(
+        updateArticleRequest.getDescription(), updatedArticleEntity.getDescription());
+    Assertions.assertEquals(updateArticleRequest.getBody(), updatedArticleEntity.getBody());
+  }
+
+  @Test
+  public void
+      givenCachedArticle_whenExecuteUpdateArticleEndpointWithNewTitle_shouldResolveOnlyTheNewSlug()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    final var updateArticleRequest = new UpdateArticleRequest();
+    updateArticleRequest.setTitle("updated title");
 
     given()
         .contentType(MediaType.APPLICATION_JSON)
@@ -451,20 +904,22 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
         .put(ARTICLES_PATH + "/{slug}")
         .then()
         .statusCode(HttpStatus.SC_OK)
-        .body(
-            "article.title",
-            is(updateArticleRequest.getTitle()),
-            "article.description",
-            is(updateArticleRequest.getDescription()),
-            "article.body",
-            is(updateArticleRequest.getBody()));
+        .body("article.slug", is("updated-title"));
 
-    final var updatedArticleEntity = findArticleEntityById(article.getId());
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_NOT_FOUND);
 
-    Assertions.assertEquals(updateArticleRequest.getTitle(), updatedArticleEntity.getTitle());
-    Assertions.assertEquals(
-        updateArticleRequest.getDescription(), updatedArticleEntity.getDescription());
-    Assertions.assertEquals(updateArticleRequest.getBody(), updatedArticleEntity.getBody());
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", "updated-title")
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.title", is(updateArticleRequest.getTitle()));
   }
 
   @Test
@@ -620,6 +1075,31 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
             hasKey("author"));
   }
 
+  @Test
+  public void
+      givenExistentArticleFavorited_whenExecuteFavoriteArticleEndpointAgain_shouldKeepFavoritesCount() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var user = createUserEntity("user", "user@mail.com", "bio", "image", "user123");
+
+    final var article = createArticleEntity(user, "Title", "Description", "Body");
+
+    favorite(article, loggedUser);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .pathParam("slug", article.getSlug())
+        .post(ARTICLES_PATH + "/{slug}/favorite")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.favorited", is(true), "article.favoritesCount", is(1));
+
+    Assertions.assertEquals(1, findArticleEntityById(article.getId()).getFavoritesCount());
+  }
+
   @Test
   public void
       givenExistentArticleFavorited_whenExecuteUnfaroriteArticleEndpoint_shouldReturnUnfavoritedArticleWithStatusCode200() {
@@ -674,4 +1154,562 @@ public class ArticlesResourceIntegrationTest extends AbstractIntegrationTest {
     newArticleRequest.setTagList(Arrays.asList(tagList));
     return newArticleRequest;
   }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 20})
+  public void
+      givenArticlesWithTagsAndFavorites_whenExecuteGlobalArticlesEndpoint_shouldStayWithinStatementBudget(
+          int pageSize) {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var author1 = createUserEntity("author1", "author1@mail.com", "bio", "image", "123");
+    final var author2 = createUserEntity("author2", "author2@mail.com", "bio", "image", "123");
+
+    final var articles = createArticles(author1, "Title", "Description", "Body", 10);
+    articles.addAll(createArticles(author2, "Other", "Description", "Body", 10));
+    createArticlesTags(articles, createTagEntity("Tag 1"), createTagEntity("Tag 2"));
+    articles.forEach(article -> favorite(article, loggedUser));
+    follow(loggedUser, author1);
+
+    assertStatementBudget(
+        ARTICLES_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .queryParam("limit", pageSize)
+                .get(ARTICLES_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("articles.size()", is(pageSize)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 20})
+  public void
+      givenFollowedAuthorsWithArticles_whenExecuteFeedEndpoint_shouldStayWithinStatementBudget(
+          int pageSize) {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var author1 = createUserEntity("author1", "author1@mail.com", "bio", "image", "123");
+    final var author2 = createUserEntity("author2", "author2@mail.com", "bio", "image", "123");
+
+    final var articles = createArticles(author1, "Title", "Description", "Body", 10);
+    articles.addAll(createArticles(author2, "Other", "Description", "Body", 10));
+    createArticlesTags(articles, createTagEntity("Tag 1"), createTagEntity("Tag 2"));
+    articles.forEach(article -> favorite(article, loggedUser));
+    follow(loggedUser, author1, author2);
+
+    assertStatementBudget(
+        FEED_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .queryParam("limit", pageSize)
+                .get(FEED_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("articles.size()", is(pageSize)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 20})
+  public void
+      givenArticleWithCommentsFromDifferentAuthors_whenExecuteGetCommentsBySlugEndpoint_shouldStayWithinStatementBudget(
+          int comments) {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    for (int commentIndex = 0; commentIndex < comments; commentIndex++) {
+      final var author =
+          createUserEntity(
+              "author" + commentIndex, "author" + commentIndex + "@mail.com", "bio", "image", "123");
+      createComment(author, article, "comment" + commentIndex);
+      follow(loggedUser, author);
+    }
+
+    assertStatementBudget(
+        COMMENTS_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .pathParam("slug", article.getSlug())
+                .get(ARTICLES_PATH + "/{slug}/comments")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("comments.size()", is(comments)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 10, 20})
+  public void
+      givenNewAndExistentTags_whenExecuteCreateArticleEndpoint_shouldStayWithinStatementBudget(
+          int tags) throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var follower =
+        createUserEntity("follower", "follower@mail.com", "bio", "image", "follower123");
+    follow(follower, loggedUser);
+
+    final var tagList = new String[tags + 1];
+    for (int tagIndex = 0; tagIndex < tags; tagIndex++) {
+      tagList[tagIndex] = "tag " + tagIndex;
+      if (tagIndex % 2 == 0) {
+        createTagEntity(tagList[tagIndex]);
+      }
+    }
+    tagList[tags] = "TAG 1";
+
+    final var newArticleRequest = createNewArticle("Title", "Description", "Body", tagList);
+
+    assertStatementBudget(
+        CREATE_ARTICLE_STATEMENT_BUDGET,
+        () -> {
+          try {
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .body(objectMapper.writeValueAsString(newArticleRequest))
+                .post(ARTICLES_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_CREATED)
+                .body("article.tagList.size()", is(tags));
+          } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+          }
+        });
+  }
+
+  @Test
+  public void
+      givenConcurrentRequestsWithSameTitle_whenExecuteCreateArticleEndpoint_shouldCreateUniqueSlugs()
+          throws Exception {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var authorization = AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser);
+    final var body =
+        objectMapper.writeValueAsString(createNewArticle("Title", "Description", "Body"));
+
+    final var requests = 8;
+    final var executor = Executors.newFixedThreadPool(requests);
+    final var start = new CountDownLatch(1);
+    final var slugs = new ArrayList<Future<String>>();
+    try {
+      for (int request = 0; request < requests; request++) {
+        slugs.add(
+            executor.submit(
+                (Callable<String>)
+                    () -> {
+                      start.await();
+                      return given()
+                          .contentType(MediaType.APPLICATION_JSON)
+                          .header(AUTHORIZATION_HEADER, authorization)
+                          .body(body)
+                          .post(ARTICLES_PATH)
+                          .then()
+                          .statusCode(HttpStatus.SC_CREATED)
+                          .extract()
+                          .path("article.slug");
+                    }));
+      }
+      start.countDown();
+      final var createdSlugs = new HashSet<String>();
+      for (Future<String> slug : slugs) {
+        createdSlugs.add(slug.get());
+      }
+      Assertions.assertEquals(requests, createdSlugs.size());
+      Assertions.assertTrue(createdSlugs.contains("title"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void
+      givenConcurrentRequestsWithSameNewTag_whenExecuteCreateArticleEndpoint_shouldCreateTagOnce()
+          throws Exception {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var authorization = AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser);
+    final var body =
+        objectMapper.writeValueAsString(
+            createNewArticle("Title", "Description", "Body", "new tag", "other tag"));
+
+    final var requests = 8;
+    final var executor = Executors.newFixedThreadPool(requests);
+    final var start = new CountDownLatch(1);
+    final var responses = new ArrayList<Future<List<String>>>();
+    try {
+      for (int request = 0; request < requests; request++) {
+        responses.add(
+            executor.submit(
+                (Callable<List<String>>)
+                    () -> {
+                      start.await();
+                      return given()
+                          .contentType(MediaType.APPLICATION_JSON)
+                          .header(AUTHORIZATION_HEADER, authorization)
+                          .body(body)
+                          .post(ARTICLES_PATH)
+                          .then()
+                          .statusCode(HttpStatus.SC_CREATED)
+                          .extract()
+                          .path("article.tagList");
+                    }));
+      }
+      start.countDown();
+      for (Future<List<String>> response : responses) {
+        Assertions.assertEquals(2, response.get().size());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(API_PREFIX + "/tags")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("tags", containsInAnyOrder("new tag", "other tag"));
+  }
+
+  @Test
+  public void
+      givenArticleETag_whenExecuteGetArticleEndpointWithIfNoneMatch_shouldReturn304UntilFavorited() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    final var entityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .pathParam("slug", article.getSlug())
+            .get(ARTICLES_PATH + "/{slug}")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    assertStatementBudget(
+        NOT_MODIFIED_ARTICLE_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                .pathParam("slug", article.getSlug())
+                .get(ARTICLES_PATH + "/{slug}")
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, is(entityTag)));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .pathParam("slug", article.getSlug())
+        .post(ARTICLES_PATH + "/{slug}/favorite")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.favoritesCount", is(1));
+  }
+
+  @Test
+  public void
+      givenCommentsETag_whenExecuteGetCommentsEndpointWithIfNoneMatch_shouldReturn304UntilCommentedOrFollowed() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var commenter =
+        createUserEntity("commenter", "commenter@mail.com", "bio", "image", "commenter123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+    createComment(commenter, article, "comment 1");
+
+    final var entityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+            .pathParam("slug", article.getSlug())
+            .get(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    assertStatementBudget(
+        NOT_MODIFIED_COMMENTS_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(
+                    AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                .pathParam("slug", article.getSlug())
+                .get(ARTICLES_PATH + "/{slug}/comments")
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED));
+
+    follow(loggedUser, commenter);
+
+    final var followedEntityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+            .pathParam("slug", article.getSlug())
+            .get(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .body("comments[0].author.following", is(true))
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    createComment(loggedUser, article, "comment 2");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .header(HttpHeaders.IF_NONE_MATCH, followedEntityTag)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("comments.size()", is(2));
+  }
+
+  @Test
+  public void
+      givenAnonymousArticlesListing_whenExecuteGlobalArticlesEndpointAgain_shouldServeCachedResponse() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 3);
+
+    final var entityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .get(ARTICLES_PATH)
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .body("articles.size()", is(3))
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    assertStatementBudget(
+        CACHED_ARTICLES_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .get(ARTICLES_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .header(HttpHeaders.ETAG, is(entityTag))
+                .body("articles.size()", is(3)));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_NOT_MODIFIED);
+  }
+
+  @Test
+  public void
+      givenCachedAnonymousArticlesListing_whenArticleIsCreatedOrFavorited_shouldReturnFreshResponse()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+    final var tag = createTagEntity("Tag 1");
+    createArticlesTags(List.of(article), tag);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag.getName())
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(1), "articles[0].favoritesCount", is(0));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .pathParam("slug", article.getSlug())
+        .post(ARTICLES_PATH + "/{slug}/favorite")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag.getName())
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(1), "articles[0].favoritesCount", is(1));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .body(
+            objectMapper.writeValueAsString(
+                createNewArticle("Other", "Description", "Body", tag.getName())))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("tag", tag.getName())
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(2));
+  }
+
+  @Test
+  public void
+      givenArticleWith3Comments_whenExecuteGetCommentsBySlugEndpointWithCursor_shouldReturnEveryCommentOnce() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    final var comments = new ArrayList<String>();
+    for (int commentIndex = 0; commentIndex < 3; commentIndex++) {
+      comments.add(createComment(loggedUser, article, "comment" + commentIndex).getBody());
+    }
+
+    final var firstPage =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .pathParam("slug", article.getSlug())
+            .queryParam("limit", 2)
+            .get(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .body(
+                "comments.size()",
+                is(2),
+                "hasMore",
+                is(true),
+                "comments[0].author.username",
+                is(loggedUser.getUsername()))
+            .extract()
+            .response();
+
+    final List<String> secondPage =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .pathParam("slug", article.getSlug())
+            .queryParam("limit", 2)
+            .queryParam("cursor", firstPage.<String>path("nextCursor"))
+            .get(ARTICLES_PATH + "/{slug}/comments")
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .body("comments.size()", is(1), "hasMore", is(false), "$", not(hasKey("nextCursor")))
+            .extract()
+            .path("comments.body");
+
+    final var pagedComments = new ArrayList<String>(firstPage.path("comments.body"));
+    pagedComments.addAll(secondPage);
+    Assertions.assertEquals(new HashSet<>(comments), new HashSet<>(pagedComments));
+    Assertions.assertEquals(3, pagedComments.size());
+  }
+
+  @Test
+  public void
+      givenArticleWith25Comments_whenExecuteGetCommentsBySlugEndpointWithoutLimit_shouldReturnAllComments() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    for (int commentIndex = 0; commentIndex < 25; commentIndex++) {
+      createComment(loggedUser, article, "comment" + commentIndex);
+    }
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("comments.size()", is(25), "hasMore", is(false), "$", not(hasKey("nextCursor")));
+  }
+
+  @Test
+  public void shouldReturn422WhenExecuteGetCommentsBySlugEndpointWithInvalidCursor() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var article = createArticleEntity(loggedUser, "Title", "Description", "Body");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .queryParam("cursor", "invalid")
+        .get(ARTICLES_PATH + "/{slug}/comments")
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("invalid cursor"));
+  }
+
+  @Test
+  public void
+      givenArticlesFromFollowedAuthor_whenExecuteListingEndpoints_shouldNotLoadEntities() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "123");
+    createArticles(author, "Title", "Description", "Body", 3);
+    follow(loggedUser, author);
+
+    final var statistics =
+        applicationEntityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    final var entityLoadCount = statistics.getEntityLoadCount();
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.size()",
+            is(3),
+            "articles[0].author.username",
+            is(author.getUsername()),
+            "articles[0].author.following",
+            is(true));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(FEED_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(3));
+
+    Assertions.assertEquals(entityLoadCount, statistics.getEntityLoadCount());
+  }
 }
@@ -0,0 +1,179 @@
+package org.example.realworldapi.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.application.web.model.request.NewArticleRequest;
+import org.example.realworldapi.application.web.model.request.UpdateArticleRequest;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.MediaType;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class ArticlesSearchResourceIntegrationTest extends AbstractIntegrationTest {
+
+  private final String ARTICLES_PATH = API_PREFIX + "/articles";
+  private final String SEARCH_PATH = ARTICLES_PATH + "/search";
+
+  @Test
+  public void givenIndexedArticles_whenExecuteSearchEndpoint_shouldRankMatchesWithBm25() {
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+    createArticleEntity(author, "Dragons", "Dragon riding", "How to ride a dragon. Dragons!");
+    createArticleEntity(author, "Training", "Basics", "Training a dragon takes patience.");
+    createArticleEntity(author, "Cooking", "Recipes", "Nothing about flying reptiles.");
+    articleSearchIndex.rebuild();
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", "Dragon")
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            "articles.title",
+            contains("Dragons", "Training"),
+            "articles[0].author.username",
+            is(author.getUsername()),
+            "articlesCount",
+            is(2),
+            "hasMore",
+            is(false),
+            "$",
+            not(hasKey("nextCursor")));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", "dragon patience")
+        .queryParam("offset", 1)
+        .queryParam("limit", 1)
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.title", contains("Dragons"), "articlesCount", is(2));
+  }
+
+  @Test
+  public void
+      givenArticleWrittenThroughApi_whenExecuteSearchEndpoint_shouldReflectCreateUpdateAndDelete()
+          throws JsonProcessingException {
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+
+    final var newArticleRequest = new NewArticleRequest();
+    newArticleRequest.setTitle("Wyverns");
+    newArticleRequest.setDescription("Description");
+    newArticleRequest.setBody("Body");
+    newArticleRequest.setTagList(List.of());
+
+    final String slug =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+            .body(objectMapper.writeValueAsString(newArticleRequest))
+            .post(ARTICLES_PATH)
+            .then()
+            .statusCode(HttpStatus.SC_CREATED)
+            .extract()
+            .path("article.slug");
+
+    assertSearchCount("wyverns", 1);
+
+    newArticleRequest.setTitle("Nests");
+    newArticleRequest.setBody("Wyverns nest in cliffs");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    assertSearchCount("wyverns", 2);
+
+    final var updateArticleRequest = new UpdateArticleRequest();
+    updateArticleRequest.setTitle("Griffins");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(updateArticleRequest))
+        .pathParam("slug", slug)
+        .put(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    assertSearchCount("wyverns", 1);
+    assertSearchCount("griffins", 1);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .pathParam("slug", slug.replace("wyverns", "griffins"))
+        .delete(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    assertSearchCount("griffins", 0);
+  }
+
+  @Test
+  public void shouldReturn422WhenExecuteSearchEndpointWithBlankQuery() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", " ")
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("query must not be blank"));
+  }
+
+  @Test
+  public void shouldReturn422WhenExecuteSearchEndpointWithNegativeOffset() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", "dragon")
+        .queryParam("offset", -1)
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItem("offset must not be negative"));
+  }
+
+  @Test
+  public void givenOffsetBeyondSearchWindow_whenExecuteSearchEndpoint_shouldReturnEmptyPage() {
+
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+    createArticleEntity(author, "Dragons", "Dragon riding", "How to ride a dragon. Dragons!");
+    articleSearchIndex.rebuild();
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", "dragon")
+        .queryParam("offset", Integer.MAX_VALUE)
+        .queryParam("limit", 100)
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles", empty(), "articlesCount", is(1), "hasMore", is(false));
+  }
+
+  private void assertSearchCount(String query, int count) {
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("q", query)
+        .get(SEARCH_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(count), "articlesCount", is(count));
+  }
+}
@@ -0,0 +1,83 @@
+package org.example.realworldapi.integration;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.ArticleEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.MediaType;
+
+import static io.restassured.RestAssured.given;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.is;
+
+@QuarkusTest
+public class FavoritesCountResourceIntegrationTest extends AbstractIntegrationTest {
+
+  private final String RECONCILE_PATH = API_PREFIX + "/admin/articles/favorites-count";
+  private final String ARTICLES_PATH = API_PREFIX + "/articles";
+
+  @Test
+  public void givenDriftedFavoritesCount_whenExecuteReconcileEndpoint_shouldRestoreCount() {
+
+    final var admin = createUserEntity("admin", "admin@mail.com", "bio", "image", "admin123");
+    final var author = createUserEntity("author", "author@mail.com", "bio", "image", "author123");
+    final var reader = createUserEntity("reader", "reader@mail.com", "bio", "image", "reader123");
+    final var article = createArticleEntity(author, "Title", "Description", "Body");
+    final var untouched = createArticleEntity(author, "Other", "Description", "Body");
+    favorite(article, reader);
+    favorite(untouched, reader);
+    corruptFavoritesCount(article, 5);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.favoritesCount", is(5));
+
+    given()
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + adminToken(admin))
+        .post(RECONCILE_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("reconciliation.articles", is(1));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .pathParam("slug", article.getSlug())
+        .get(ARTICLES_PATH + "/{slug}")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("article.favoritesCount", is(1));
+
+    Assertions.assertEquals(1, findArticleEntityById(article.getId()).getFavoritesCount());
+    Assertions.assertEquals(1, findArticleEntityById(untouched.getId()).getFavoritesCount());
+  }
+
+  @Test
+  public void shouldReturn403WhenExecuteReconcileEndpointWithUserRole() {
+
+    final var user = createUserEntity("user", "user@mail.com", "bio", "image", "user123");
+
+    given()
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(user))
+        .post(RECONCILE_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_FORBIDDEN);
+  }
+
+  private void corruptFavoritesCount(ArticleEntity article, long favoritesCount) {
+    transaction(
+        () -> {
+          entityManager
+              .createQuery("update ArticleEntity set favoritesCount = :favoritesCount where id = :id")
+              .setParameter("favoritesCount", favoritesCount)
+              .setParameter("id", article.getId())
+              .executeUpdate();
+        });
+  }
+}
@@ -0,0 +1,92 @@
+package org.example.realworldapi.integration;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.apache.http.HttpStatus;
+import org.example.realworldapi.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.MediaType;
+
+import static io.restassured.RestAssured.given;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.containsString;
+
+@QuarkusTest
+public class MetricsIntegrationTest extends AbstractIntegrationTest {
+
+  private final String ARTICLES_PATH = API_PREFIX + "/articles";
+  private final String USER_RESOURCE_PATH = API_PREFIX + "/user";
+  private final String PROFILES_PATH = API_PREFIX + "/profiles";
+  private final String ENTITY_PACKAGE =
+      "org.example.realworldapi.infrastructure.repository.hibernate.entity.";
+
+  @Test
+  public void givenServedRequests_whenExecuteMetricsEndpoint_shouldExposeLatencyHistograms() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+
+    createArticles(loggedUser, "Title", "Description", "Body", 2);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(ARTICLES_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(USER_RESOURCE_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .get(METRICS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            containsString(
+                "http_resource_requests_seconds_bucket{method=\"getArticles\",resource=\"ArticlesResource\",status=\"200\","),
+            containsString(
+                "http_resource_requests_seconds_bucket{method=\"getUser\",resource=\"UserResource\",status=\"200\","),
+            containsString(
+                "http_resource_sql_statements_bucket{method=\"getArticles\",resource=\"ArticlesResource\","),
+            containsString(
+                "repository_calls_seconds_bucket{method=\"findArticlesByFilter\",repository=\"ArticleRepositoryPanache\","),
+            containsString("jwt_verify_seconds_bucket{"),
+            containsString("hibernate_statements_total"),
+            containsString("datasource_connections_active"),
+            containsString("datasource_connections_awaiting"));
+  }
+
+  @Test
+  public void givenRepeatedLookups_whenExecuteMetricsEndpoint_shouldExposeCacheRegionHitRatios() {
+
+    final var user = createUserEntity("user1", "user1@mail.com", "bio", "image", "user123");
+
+    for (int request = 0; request < 2; request++) {
+      given()
+          .contentType(MediaType.APPLICATION_JSON)
+          .get(PROFILES_PATH + "/" + user.getUsername())
+          .then()
+          .statusCode(HttpStatus.SC_OK);
+    }
+
+    given()
+        .get(METRICS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            containsString(
+                "hibernate_cache_region_hit_ratio{kind=\"natural-id\",region=\""
+                    + ENTITY_PACKAGE
+                    + "UserEntity\",}"),
+            containsString(
+                "hibernate_cache_region_requests_total{kind=\"entity\",region=\""
+                    + ENTITY_PACKAGE
+                    + "ArticleEntity\",result=\"hit\",}"),
+            containsString(
+                "hibernate_cache_region_hit_ratio{kind=\"query\",region=\"all-tags\",}"));
+  }
+}
@@ -4,7 +4,10 @@ import io.quarkus.test.junit.QuarkusTest;
 import org.apache.http.HttpStatus;
 import org.example.realworldapi.AbstractIntegrationTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
 import static io.restassured.RestAssured.given;
@@ -15,6 +18,7 @@ import static org.hamcrest.Matchers.is;
 public class ProfilesResourceIntegrationTest extends AbstractIntegrationTest {
 
   private final String PROFILES_PATH = API_PREFIX + "/profiles";
+  private final long PROFILE_STATEMENT_BUDGET = 2;
 
   @Test
   public void
@@ -151,4 +155,107 @@ public class ProfilesResourceIntegrationTest extends AbstractIntegrationTest {
             "profile.following",
             is(false));
   }
+
+  @Test
+  public void
+      givenFollowedUserWithArticles_whenExecuteUnfollowEndpoint_shouldRemoveArticlesFromFeed() {
+
+    final var user = createUserEntity("user", "user@mail.com", "bio", "image", "user123");
+    final var loggedUser =
+        createUserEntity("loggeduser", "loggeduser@mail.com", "bio", "image", "user123");
+
+    createArticles(user, "Title", "Description", "Body", 3);
+
+    follow(loggedUser, user);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .delete(PROFILES_PATH + "/" + user.getUsername() + "/follow")
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .get(API_PREFIX + "/articles/feed")
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("articles.size()", is(0), "articlesCount", is(0));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 20})
+  public void givenUserWithFollowers_whenExecuteGetProfileEndpoint_shouldStayWithinStatementBudget(
+      int followers) {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var existentUser = createUserEntity("user1", "user1@mail.com", "bio", "image", "user123");
+
+    follow(loggedUser, existentUser);
+    for (int followerIndex = 1; followerIndex < followers; followerIndex++) {
+      final var follower =
+          createUserEntity(
+              "follower" + followerIndex,
+              "follower" + followerIndex + "@mail.com",
+              "bio",
+              "image",
+              "123");
+      follow(follower, existentUser);
+    }
+
+    assertStatementBudget(
+        PROFILE_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+                .get(PROFILES_PATH + "/" + existentUser.getUsername())
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("profile.following", is(true)));
+  }
+
+  @Test
+  public void
+      givenProfileETag_whenExecuteGetProfileEndpointWithIfNoneMatch_shouldReturn304UntilFollowed() {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var user = createUserEntity("user1", "user1@mail.com", "bio", "image", "user123");
+    final var authorization = AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser);
+
+    final var entityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(AUTHORIZATION_HEADER, authorization)
+            .get(PROFILES_PATH + "/" + user.getUsername())
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    assertStatementBudget(
+        PROFILE_STATEMENT_BUDGET,
+        () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(AUTHORIZATION_HEADER, authorization)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                .get(PROFILES_PATH + "/" + user.getUsername())
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED));
+
+    follow(loggedUser, user);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, authorization)
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .get(PROFILES_PATH + "/" + user.getUsername())
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("profile.following", is(true));
+  }
 }
@@ -1,16 +1,25 @@
 package org.example.realworldapi.integration;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.quarkus.test.junit.QuarkusTest;
 import org.apache.http.HttpStatus;
 import org.example.realworldapi.AbstractIntegrationTest;
+import org.example.realworldapi.application.web.model.request.NewArticleRequest;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
 import org.junit.jupiter.api.Test;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
-import static org.example.realworldapi.constants.TestConstants.API_PREFIX;
+import static org.example.realworldapi.constants.TestConstants.*;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 
 @QuarkusTest
 public class TagsResourceIntegrationTest extends AbstractIntegrationTest {
@@ -36,4 +45,177 @@ public class TagsResourceIntegrationTest extends AbstractIntegrationTest {
             "tags",
             hasItems(tag1.getName(), tag2.getName(), tag3.getName(), tag4.getName()));
   }
+
+  @Test
+  public void givenCachedTags_whenArticleWithNewTagIsCreated_shouldReturnNewTag()
+      throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    final var tag = createTagEntity("tag 1");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("tags.size()", is(1), "tags", hasItems(tag.getName()));
+
+    final var newArticleRequest = new NewArticleRequest();
+    newArticleRequest.setTitle("Title");
+    newArticleRequest.setDescription("Description");
+    newArticleRequest.setBody("Body");
+    newArticleRequest.setTagList(List.of(tag.getName(), "tag 2"));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(API_PREFIX + "/articles")
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("tags.size()", is(2), "tags", hasItems(tag.getName(), "tag 2"));
+  }
+
+  @Test
+  public void givenCachedTags_whenExecuteMetricsEndpoint_shouldExposeTagsCacheHitsAndMisses() {
+
+    createTagEntity("tag 1");
+
+    given().get(TAGS_PATH).then().statusCode(HttpStatus.SC_OK);
+    given().get(TAGS_PATH).then().statusCode(HttpStatus.SC_OK);
+
+    given()
+        .get(METRICS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body(
+            containsString("cache_gets_total{cache=\"tags\",result=\"hit\",}"),
+            containsString("cache_gets_total{cache=\"tags\",result=\"miss\",}"));
+  }
+
+  @Test
+  public void
+      givenTagsETag_whenExecuteGetTagsEndpointWithIfNoneMatch_shouldReturn304UntilTagsChange()
+          throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    createTagEntity("tag 1");
+
+    final var entityTag =
+        given()
+            .contentType(MediaType.APPLICATION_JSON)
+            .get(TAGS_PATH)
+            .then()
+            .statusCode(HttpStatus.SC_OK)
+            .header(HttpHeaders.ETAG, notNullValue())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_NOT_MODIFIED)
+        .header(HttpHeaders.ETAG, is(entityTag));
+
+    final var newArticleRequest = new NewArticleRequest();
+    newArticleRequest.setTitle("Title");
+    newArticleRequest.setDescription("Description");
+    newArticleRequest.setBody("Body");
+    newArticleRequest.setTagList(List.of("tag 2"));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(API_PREFIX + "/articles")
+        .then()
+        .statusCode(HttpStatus.SC_CREATED);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .header(HttpHeaders.ETAG, not(entityTag))
+        .body("tags.size()", is(2));
+  }
+
+  @Test
+  public void givenArticlesWithTags_whenExecuteGetTagsEndpointWithTop_shouldReturnMostUsedTags()
+      throws JsonProcessingException {
+
+    final var loggedUser =
+        createUserEntity("loggedUser", "loggeduser@mail.com", "bio", "image", "loggeduser123");
+    createTagEntity("unused");
+
+    final var slug = createArticle(loggedUser, "Title 1", List.of("java", "quarkus", "jpa"));
+    createArticle(loggedUser, "Title 2", List.of("java", "quarkus"));
+    createArticle(loggedUser, "Title 3", List.of("java", "jpa"));
+    createArticle(loggedUser, "Title 4", List.of("jpa"));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("top", 2)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("tags", contains("java", "jpa"));
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(loggedUser))
+        .delete(API_PREFIX + "/articles/" + slug)
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("top", 10)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("tags", contains("java", "jpa", "quarkus"));
+  }
+
+  @Test
+  public void givenNonPositiveTop_whenExecuteGetTagsEndpoint_shouldReturn422() {
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .queryParam("top", 0)
+        .get(TAGS_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
+        .body("errors.body", hasItems("top must be positive"));
+  }
+
+  private String createArticle(UserEntity author, String title, List<String> tags)
+      throws JsonProcessingException {
+    final var newArticleRequest = new NewArticleRequest();
+    newArticleRequest.setTitle(title);
+    newArticleRequest.setDescription("Description");
+    newArticleRequest.setBody("Body");
+    newArticleRequest.setTagList(tags);
+
+    return given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(author))
+        .body(objectMapper.writeValueAsString(newArticleRequest))
+        .post(API_PREFIX + "/articles")
+        .then()
+        .statusCode(HttpStatus.SC_CREATED)
+        .extract()
+        .path("article.slug");
+  }
 }
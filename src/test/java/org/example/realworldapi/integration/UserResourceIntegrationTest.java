@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.*;
 public class UserResourceIntegrationTest extends AbstractIntegrationTest {
 
   private final String USER_RESOURCE_PATH = API_PREFIX + "/user";
+  private final String PROFILES_PATH = API_PREFIX + "/profiles";
 
   @Test
   public void givenAValidToken_whenExecuteGetUserEndpoint_shouldReturnLoggedInUser() {
@@ -118,6 +119,44 @@ public class UserResourceIntegrationTest extends AbstractIntegrationTest {
             is(user.getImage()));
   }
 
+  @Test
+  public void givenACachedProfile_whenExecuteUpdateUserEndpoint_shouldServeTheUpdatedProfile()
+      throws JsonProcessingException {
+
+    final var user = createUserEntity("user1", "user1@mail.com", "bio", "image", "123");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(PROFILES_PATH + "/" + user.getUsername())
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    UpdateUserRequest updateUserRequest = new UpdateUserRequest();
+    updateUserRequest.setUsername("user2");
+    updateUserRequest.setBio("updated bio");
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token(user))
+        .body(objectMapper.writeValueAsString(updateUserRequest))
+        .put(USER_RESOURCE_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(PROFILES_PATH + "/" + user.getUsername())
+        .then()
+        .statusCode(HttpStatus.SC_NOT_FOUND);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(PROFILES_PATH + "/" + updateUserRequest.getUsername())
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("profile.bio", is(updateUserRequest.getBio()));
+  }
+
   @Test
   public void givenAExistentUser_whenExecuteUpdateUserEndpointWithEmptyBody_shouldReturn422()
       throws JsonProcessingException {
@@ -252,4 +291,34 @@ public class UserResourceIntegrationTest extends AbstractIntegrationTest {
         .statusCode(HttpStatus.SC_UNPROCESSABLE_ENTITY)
         .body("errors.body", hasItems("username must be not blank"));
   }
+
+  @Test
+  public void
+      givenAVerifiedToken_whenExecuteGetUserEndpointWithTamperedToken_shouldReturn401() {
+
+    final var user = createUserEntity("user1", "user1@mail.com", "bio", "image", "123");
+    final var token = token(user);
+
+    for (int request = 0; request < 2; request++) {
+      given()
+          .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + token)
+          .contentType(MediaType.APPLICATION_JSON)
+          .get(USER_RESOURCE_PATH)
+          .then()
+          .statusCode(HttpStatus.SC_OK)
+          .body("user.username", is(user.getUsername()));
+    }
+
+    final var tamperedIndex = token.length() - 10;
+    final var tamperedChar = token.charAt(tamperedIndex) == 'A' ? 'B' : 'A';
+    final var tamperedToken =
+        token.substring(0, tamperedIndex) + tamperedChar + token.substring(tamperedIndex + 1);
+
+    given()
+        .header(AUTHORIZATION_HEADER, AUTHORIZATION_HEADER_VALUE_PREFIX + tamperedToken)
+        .contentType(MediaType.APPLICATION_JSON)
+        .get(USER_RESOURCE_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_UNAUTHORIZED);
+  }
 }
@@ -6,8 +6,11 @@ import org.apache.http.HttpStatus;
 import org.example.realworldapi.AbstractIntegrationTest;
 import org.example.realworldapi.application.web.model.request.LoginRequest;
 import org.example.realworldapi.application.web.model.request.NewUserRequest;
+import org.example.realworldapi.infrastructure.repository.hibernate.entity.UserEntity;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
 
 import javax.ws.rs.core.MediaType;
 
@@ -15,6 +18,7 @@ import static io.restassured.RestAssured.given;
 import static org.example.realworldapi.constants.TestConstants.API_PREFIX;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 
 @QuarkusTest
 public class UsersResourceIntegrationTest extends AbstractIntegrationTest {
@@ -205,4 +209,39 @@ public class UsersResourceIntegrationTest extends AbstractIntegrationTest {
         .statusCode(HttpStatus.SC_UNAUTHORIZED)
         .body("errors.body", hasItems("Unauthorized"));
   }
+
+  @Test
+  public void
+      givenAPersistedUserWithOutdatedHashCost_whenExecuteLoginEndpoint_shouldReturnUserAndRehashPassword()
+          throws JsonProcessingException {
+
+    String userPassword = "123";
+
+    final var user = createUserEntity("user1", "user1@mail.com", "bio", "image", userPassword);
+
+    transaction(
+        () -> {
+          final var userEntity = entityManager.find(UserEntity.class, user.getId());
+          userEntity.setPassword(BCrypt.hashpw(userPassword, BCrypt.gensalt(4)));
+        });
+
+    LoginRequest loginRequest = new LoginRequest();
+    loginRequest.setEmail(user.getEmail());
+    loginRequest.setPassword(userPassword);
+
+    given()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(objectMapper.writeValueAsString(loginRequest))
+        .when()
+        .post(LOGIN_PATH)
+        .then()
+        .statusCode(HttpStatus.SC_OK)
+        .body("user.email", is(user.getEmail()), "user.token", Matchers.notNullValue());
+
+    final var rehashedPassword =
+        transaction(() -> entityManager.find(UserEntity.class, user.getId()).getPassword());
+
+    Assertions.assertTrue(rehashedPassword.startsWith("$2a$10$"));
+    Assertions.assertTrue(BCrypt.checkpw(userPassword, rehashedPassword));
+  }
 }
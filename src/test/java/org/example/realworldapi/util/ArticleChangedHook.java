@@ -0,0 +1,25 @@
+package org.example.realworldapi.util;
+
+import org.example.realworldapi.domain.model.article.ArticleChangedEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Runs an action once, on the next article change, to interleave writes with a running request. */
+@ApplicationScoped
+public class ArticleChangedHook {
+
+  private final AtomicReference<Runnable> nextAction = new AtomicReference<>();
+
+  public void runOnNextChange(Runnable action) {
+    nextAction.set(action);
+  }
+
+  void onArticleChanged(@Observes ArticleChangedEvent event) {
+    final var action = nextAction.getAndSet(null);
+    if (action != null) {
+      action.run();
+    }
+  }
+}
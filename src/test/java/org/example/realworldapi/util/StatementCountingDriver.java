@@ -0,0 +1,133 @@
+package org.example.realworldapi.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * JDBC driver that wraps the real driver and counts every statement the application executes,
+ * including work done on the raw connection that never goes through Hibernate's statistics.
+ * Configured as the application datasource driver with a {@code jdbc:counting:} url prefix.
+ */
+public class StatementCountingDriver implements Driver {
+
+  private static final String PREFIX = "jdbc:counting:";
+  private static final Set<String> EXECUTE_METHODS =
+      Set.of(
+          "execute",
+          "executeQuery",
+          "executeUpdate",
+          "executeLargeUpdate",
+          "executeBatch",
+          "executeLargeBatch");
+  private static final AtomicLong EXECUTED_STATEMENTS = new AtomicLong();
+
+  public static long executedStatements() {
+    return EXECUTED_STATEMENTS.get();
+  }
+
+  @Override
+  public Connection connect(String url, Properties info) throws SQLException {
+    if (!acceptsURL(url)) {
+      return null;
+    }
+    final var delegateUrl = delegateUrl(url);
+    final var connection = delegate(delegateUrl).connect(delegateUrl, info);
+    return proxy(Connection.class, connection, this::connectionHandler);
+  }
+
+  @Override
+  public boolean acceptsURL(String url) {
+    return url != null && url.startsWith(PREFIX);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+    final var delegateUrl = delegateUrl(url);
+    return delegate(delegateUrl).getPropertyInfo(delegateUrl, info);
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  private String delegateUrl(String url) {
+    return "jdbc:" + url.substring(PREFIX.length());
+  }
+
+  private Driver delegate(String url) throws SQLException {
+    final var drivers =
+        ServiceLoader.load(Driver.class, StatementCountingDriver.class.getClassLoader());
+    for (Driver driver : drivers) {
+      if (!(driver instanceof StatementCountingDriver) && driver.acceptsURL(url)) {
+        return driver;
+      }
+    }
+    throw new SQLException("No driver found for " + url);
+  }
+
+  private Object connectionHandler(Object connection, Method method, Object[] args)
+      throws Throwable {
+    final var result = invoke(connection, method, args);
+    if (result instanceof CallableStatement) {
+      return proxy(CallableStatement.class, result, this::statementHandler);
+    }
+    if (result instanceof PreparedStatement) {
+      return proxy(PreparedStatement.class, result, this::statementHandler);
+    }
+    if (result instanceof Statement) {
+      return proxy(Statement.class, result, this::statementHandler);
+    }
+    return result;
+  }
+
+  private Object statementHandler(Object statement, Method method, Object[] args)
+      throws Throwable {
+    if (EXECUTE_METHODS.contains(method.getName())) {
+      EXECUTED_STATEMENTS.incrementAndGet();
+    }
+    return invoke(statement, method, args);
+  }
+
+  private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private <T> T proxy(Class<T> type, Object target, DelegateHandler handler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            StatementCountingDriver.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> handler.invoke(target, method, args)));
+  }
+
+  private interface DelegateHandler {
+    Object invoke(Object target, Method method, Object[] args) throws Throwable;
+  }
+}